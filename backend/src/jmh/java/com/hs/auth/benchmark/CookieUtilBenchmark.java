@@ -0,0 +1,51 @@
+package com.hs.auth.benchmark;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.util.CookieUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// Cookie에서 Refresh Token 추출 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CookieUtilBenchmark {
+
+    private MockHttpServletRequest requestWithToken;
+    private MockHttpServletRequest requestWithoutToken;
+
+    @Setup
+    public void setUp() {
+        // 브라우저가 함께 보내는 일반적인 쿠키 몇 개 뒤에 refreshToken이 위치하는 경우
+        requestWithToken = new MockHttpServletRequest();
+        requestWithToken.setCookies(
+                new Cookie("JSESSIONID", "0123456789ABCDEF"),
+                new Cookie("theme", "dark"),
+                new Cookie("locale", "ko-KR"),
+                new Cookie(AppConstants.Http.REFRESH_TOKEN_COOKIE_NAME, "header.payload.signature"));
+
+        requestWithoutToken = new MockHttpServletRequest();
+        requestWithoutToken.setCookies(
+                new Cookie("JSESSIONID", "0123456789ABCDEF"),
+                new Cookie("theme", "dark"));
+    }
+
+    @Benchmark
+    public String extractRefreshTokenFromCookie() {
+        return CookieUtil.extractRefreshTokenFromCookie(requestWithToken);
+    }
+
+    @Benchmark
+    public String extractRefreshTokenFromCookieMissing() {
+        return CookieUtil.extractRefreshTokenFromCookie(requestWithoutToken);
+    }
+}
@@ -0,0 +1,63 @@
+package com.hs.auth.benchmark;
+
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.security.JwtKeyProvider;
+import com.hs.auth.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil 토큰 생성/검증 벤치마크 (서명 알고리즘별)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-for-performance-measurement";
+    private static final long ACCESS_EXPIRATION_MS = 3600000L;
+    private static final long REFRESH_EXPIRATION_MS = 604800000L;
+
+    @Param({ JwtKeyProvider.HS256, JwtKeyProvider.ES256, JwtKeyProvider.EDDSA })
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyProvider keyProvider = new JwtKeyProvider(SECRET, algorithm, "benchmark", "", "", 0, "");
+        jwtUtil = new JwtUtil(keyProvider, ACCESS_EXPIRATION_MS, REFRESH_EXPIRATION_MS,
+                new AuthMetrics(new SimpleMeterRegistry()));
+        accessToken = jwtUtil.generateAccessToken(1L, "benchmark@example.com", 0L);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(1L, "benchmark@example.com", 0L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseToken() {
+        return jwtUtil.parseToken(accessToken);
+    }
+}
@@ -0,0 +1,39 @@
+package com.hs.auth.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt 강도(cost)별 비밀번호 검증 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "benchmark-password";
+
+    @Param({ "10", "11", "12", "13" })
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
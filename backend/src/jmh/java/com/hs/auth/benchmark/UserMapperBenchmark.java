@@ -0,0 +1,56 @@
+package com.hs.auth.benchmark;
+
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.dto.response.UserResponse;
+import com.hs.auth.entity.User;
+import com.hs.auth.mapper.UserMapper;
+import com.hs.auth.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// UserMapper 응답 변환 벤치마크
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserMapperBenchmark {
+
+    private UserMapper userMapper;
+    private User user;
+    private UserSnapshot userSnapshot;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapperImpl();
+
+        LocalDateTime now = LocalDateTime.now();
+        user = User.builder()
+                .userId(1L)
+                .email("benchmark@example.com")
+                .password("$2a$12$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm")
+                .nickname("벤치마크")
+                .name("홍길동")
+                .phoneNumber("010-1234-5678")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        userSnapshot = UserSnapshot.from(user);
+    }
+
+    @Benchmark
+    public UserResponse toResponseFromEntity() {
+        return userMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public UserResponse toResponseFromSnapshot() {
+        return userMapper.toResponse(userSnapshot);
+    }
+}
@@ -0,0 +1,131 @@
+package com.hs.auth.loadtest;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// AuthController 주요 흐름 부하 테스트 (./gradlew loadTest)
+// 내장 H2와 GreenMail SMTP 서버로 외부 의존성 없이 실행하며 엔드포인트별 p50/p95/p99 지연시간과 처리량을 보고
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthLoadTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withPerMethodLifecycle(false);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void authFlows() throws Exception {
+        long durationSeconds = Long.getLong("loadtest.duration", 30);
+        long warmupSeconds = Long.getLong("loadtest.warmup", 5);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Endpoint.Mix mix = Endpoint.Mix.parse(System.getProperty("loadtest.mix"));
+        String label = System.getProperty("loadtest.label", "loadtest");
+
+        LoadTestClient client = new LoadTestClient(port);
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.endpoints()) {
+            recorders.put(endpoint, new LatencyRecorder(endpoint.name() + " " + endpoint.getPath()));
+        }
+
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong transportErrors = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                // 워커마다 전용 세션을 사용하여 refresh token 회전이 다른 워커와 충돌하지 않도록 함
+                LoadTestClient.Session session = client.createSession();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                long now;
+                while ((now = System.nanoTime()) < deadline) {
+                    Endpoint endpoint = mix.next(random);
+                    boolean success;
+                    try {
+                        success = client.execute(endpoint, session);
+                    } catch (IOException e) {
+                        transportErrors.incrementAndGet();
+                        success = false;
+                    }
+
+                    if (now >= measureStart) {
+                        recorders.get(endpoint).record(System.nanoTime() - now, success);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+
+        double elapsedSeconds = durationSeconds;
+        List<LatencyRecorder.Summary> summaries = recorders.values().stream()
+                .map(recorder -> recorder.summarize(elapsedSeconds))
+                .toList();
+
+        String report = buildReport(label, concurrency, durationSeconds, transportErrors.get(), summaries);
+        System.out.println(report);
+        writeReport(label, report);
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.05"));
+        for (LatencyRecorder.Summary summary : summaries) {
+            assertThat(summary.count()).as(summary.endpoint() + " 호출 수").isPositive();
+            assertThat((double) summary.errors() / summary.count())
+                    .as(summary.endpoint() + " 오류율")
+                    .isLessThanOrEqualTo(maxErrorRate);
+        }
+    }
+
+    private static String buildReport(String label, int concurrency, long durationSeconds, long transportErrors,
+            List<LatencyRecorder.Summary> summaries) {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("%n=== 부하 테스트 결과 [%s] 동시성=%d, 측정시간=%ds, 전송오류=%d ===%n",
+                        label, concurrency, durationSeconds, transportErrors))
+                .append(LatencyRecorder.Summary.header()).append(System.lineSeparator());
+
+        long totalCount = 0;
+        for (LatencyRecorder.Summary summary : summaries) {
+            report.append(summary.format()).append(System.lineSeparator());
+            totalCount += summary.count();
+        }
+        report.append(String.format("전체 처리량: %.1f req/s%n", totalCount / (double) durationSeconds));
+        report.append(String.format("수신된 이메일: %d%n", greenMail.getReceivedMessages().length));
+        return report.toString();
+    }
+
+    private static void writeReport(String label, String report) throws IOException {
+        String reportDir = System.getProperty("loadtest.report-dir");
+        if (reportDir == null) {
+            return;
+        }
+        Path directory = Files.createDirectories(Path.of(reportDir));
+        Files.writeString(directory.resolve(label + ".txt"), report);
+    }
+}
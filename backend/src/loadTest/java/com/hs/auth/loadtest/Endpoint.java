@@ -0,0 +1,81 @@
+package com.hs.auth.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+// 부하 테스트 대상 엔드포인트와 기본 호출 비율
+enum Endpoint {
+
+    SIGNUP("/auth/signup", 5),
+    LOGIN("/auth/login", 15),
+    REFRESH("/auth/refresh", 30),
+    PROFILE("/auth/profile", 45),
+    PASSWORD_RESET_REQUEST("/auth/password/reset-request", 5);
+
+    private final String path;
+    private final int defaultWeight;
+
+    Endpoint(String path, int defaultWeight) {
+        this.path = path;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    // 가중치 기반 엔드포인트 선택기
+    static final class Mix {
+
+        private final Endpoint[] endpoints;
+        private final int[] cumulativeWeights;
+        private final int totalWeight;
+
+        private Mix(Map<Endpoint, Integer> weights) {
+            this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+            this.cumulativeWeights = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += weights.get(endpoints[i]);
+                cumulativeWeights[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("부하 테스트 호출 비율의 합이 0입니다.");
+            }
+            this.totalWeight = total;
+        }
+
+        // 기본 비율 또는 "signup:5,login:15,refresh:30,profile:45,password_reset_request:5" 형식의 비율
+        static Mix parse(String spec) {
+            Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+            if (spec == null || spec.isBlank()) {
+                for (Endpoint endpoint : values()) {
+                    weights.put(endpoint, endpoint.defaultWeight);
+                }
+                return new Mix(weights);
+            }
+
+            for (String entry : spec.split(",")) {
+                String[] pair = entry.trim().split(":");
+                weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+            }
+            return new Mix(weights);
+        }
+
+        Endpoint next(Random random) {
+            int value = random.nextInt(totalWeight);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+
+        Endpoint[] endpoints() {
+            return endpoints.clone();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hs.auth.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// 엔드포인트별 응답 시간 기록 및 백분위 계산
+final class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long elapsedNanos, boolean success) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = elapsedNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Summary(name, size, errors, size / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    record Summary(String endpoint, long count, long errors, double throughput,
+            double p50, double p95, double p99, double max) {
+
+        static String header() {
+            return String.format("%-32s %8s %8s %10s %10s %10s %10s %10s",
+                    "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        }
+
+        String format() {
+            return String.format("%-32s %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f",
+                    endpoint, count, errors, throughput, p50, p95, p99, max);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.hs.auth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hs.auth.constants.AppConstants;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 부하 테스트용 HTTP 클라이언트 (가상 사용자 세션 단위로 토큰/쿠키 관리)
+final class LoadTestClient {
+
+    private static final String PASSWORD = "loadtest1!";
+    private static final AtomicInteger USER_SEQUENCE = new AtomicInteger();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    LoadTestClient(int port) {
+        this.baseUrl = "http://localhost:" + port + "/api";
+    }
+
+    // 새 사용자를 가입시키고 로그인한 세션 생성
+    Session createSession() throws IOException, InterruptedException {
+        Session session = new Session(nextUser());
+        if (!signUp(session.user) || !login(session)) {
+            throw new IllegalStateException("부하 테스트 세션 생성 실패: " + session.user.email());
+        }
+        return session;
+    }
+
+    // 엔드포인트 1회 호출 (성공 여부 반환)
+    boolean execute(Endpoint endpoint, Session session) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case SIGNUP -> signUp(nextUser());
+            case LOGIN -> login(session);
+            case REFRESH -> refresh(session);
+            case PROFILE -> updateProfile(session);
+            case PASSWORD_RESET_REQUEST -> requestPasswordReset(session);
+        };
+    }
+
+    private boolean signUp(TestUser user) throws IOException, InterruptedException {
+        String body = String.format(
+                "{\"email\":\"%s\",\"password\":\"%s\",\"confirmPassword\":\"%s\",\"nickname\":\"%s\",\"name\":\"%s\",\"phoneNumber\":\"%s\"}",
+                user.email(), PASSWORD, PASSWORD, user.nickname(), user.name(), user.phoneNumber());
+        return isSuccess(send(post(Endpoint.SIGNUP.getPath(), body).build()));
+    }
+
+    private boolean login(Session session) throws IOException, InterruptedException {
+        String body = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", session.user.email(), PASSWORD);
+        HttpResponse<String> response = send(post(Endpoint.LOGIN.getPath(), body).build());
+        return session.update(response);
+    }
+
+    private boolean refresh(Session session) throws IOException, InterruptedException {
+        HttpRequest request = post(Endpoint.REFRESH.getPath(), "")
+                .header("Cookie", AppConstants.Http.REFRESH_TOKEN_COOKIE_NAME + "=" + session.refreshToken)
+                .build();
+        return session.update(send(request));
+    }
+
+    private boolean updateProfile(Session session) throws IOException, InterruptedException {
+        TestUser user = session.user;
+        String body = String.format("{\"nickname\":\"%s\",\"name\":\"%s\",\"phoneNumber\":\"%s\"}",
+                user.nickname(), user.name(), user.phoneNumber());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + Endpoint.PROFILE.getPath()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header(AppConstants.Http.AUTHORIZATION_HEADER, AppConstants.Http.BEARER_PREFIX + session.accessToken)
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return isSuccess(send(request));
+    }
+
+    private boolean requestPasswordReset(Session session) throws IOException, InterruptedException {
+        String body = String.format("{\"email\":\"%s\"}", session.user.email());
+        return isSuccess(send(post(Endpoint.PASSWORD_RESET_REQUEST.getPath(), body).build()));
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static TestUser nextUser() {
+        int sequence = USER_SEQUENCE.incrementAndGet();
+        return new TestUser(
+                "loadtest-" + sequence + "@example.com",
+                "lt" + sequence,
+                "부하테스트",
+                String.format("010-%04d-%04d", sequence / 10000 % 10000, sequence % 10000));
+    }
+
+    record TestUser(String email, String nickname, String name, String phoneNumber) {
+    }
+
+    // 가상 사용자 세션 (한 워커 스레드만 사용하므로 동기화 불필요)
+    final class Session {
+
+        private final TestUser user;
+        private String accessToken;
+        private String refreshToken;
+
+        private Session(TestUser user) {
+            this.user = user;
+        }
+
+        // 로그인/갱신 응답에서 access token과 refresh token 쿠키 반영
+        private boolean update(HttpResponse<String> response) throws IOException {
+            if (!isSuccess(response)) {
+                return false;
+            }
+
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            accessToken = data.path("accessToken").asText();
+
+            String cookiePrefix = AppConstants.Http.REFRESH_TOKEN_COOKIE_NAME + "=";
+            for (String setCookie : response.headers().allValues("Set-Cookie")) {
+                if (setCookie.startsWith(cookiePrefix)) {
+                    int end = setCookie.indexOf(';');
+                    refreshToken = setCookie.substring(cookiePrefix.length(), end < 0 ? setCookie.length() : end);
+                }
+            }
+            return true;
+        }
+    }
+}
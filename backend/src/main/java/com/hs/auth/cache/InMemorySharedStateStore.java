@@ -0,0 +1,83 @@
+package com.hs.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 단일 인스턴스용 공유 상태 저장소 (JVM 메모리, 발행 시 로컬 구독자에게 바로 전달)
+@Slf4j
+public class InMemorySharedStateStore implements SharedStateStore {
+
+    private final Cache<String, Entry> entries;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public InMemorySharedStateStore(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry())
+                .build();
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return entry != null ? Optional.of(entry.value()) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, ttl));
+    }
+
+    @Override
+    public void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.error("공유 상태 메시지 처리 실패: channel={}", channel, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private record Entry(String value, Duration ttl) {
+    }
+
+    // 항목마다 저장 시 지정한 TTL 적용
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hs.auth.cache;
+
+import com.hs.auth.metrics.AuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Redis 프로토콜 기반 공유 상태 저장소 (Redis 및 RESP 호환 서버)
+// 값은 문자열 키/값, 무효화 전파는 Redis Pub/Sub 채널 사용
+// 장애는 warn 로그와 auth.shared-state.errors 지표로 남기고 호출 측에는 전파하지 않음
+@Slf4j
+public class RedisSharedStateStore implements SharedStateStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    // 여러 서비스가 같은 Redis를 쓸 때 키/채널 충돌 방지
+    private final String keyPrefix;
+    private final AuthMetrics authMetrics;
+
+    public RedisSharedStateStore(StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            String keyPrefix,
+            AuthMetrics authMetrics) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.keyPrefix = keyPrefix;
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(keyPrefix + key));
+        } catch (DataAccessException e) {
+            log.warn("공유 상태 조회 실패, 로컬 조회로 대체: key={}, {}", key, e.getMessage());
+            authMetrics.incrementSharedStateError("get");
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, value, ttl);
+        } catch (DataAccessException e) {
+            log.warn("공유 상태 저장 실패: key={}, {}", key, e.getMessage());
+            authMetrics.incrementSharedStateError("put");
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        try {
+            redisTemplate.delete(keyPrefix + key);
+        } catch (DataAccessException e) {
+            log.warn("공유 상태 삭제 실패: key={}, {}", key, e.getMessage());
+            authMetrics.incrementSharedStateError("invalidate");
+        }
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(keyPrefix + channel, message);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 로컬 캐시 TTL/주기적 재로드로 수렴
+            log.warn("공유 상태 메시지 발행 실패: channel={}, {}", channel, e.getMessage());
+            authMetrics.incrementSharedStateError("publish");
+        }
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                log.warn("공유 상태 메시지 처리 실패: channel={}", channel, e);
+                authMetrics.incrementSharedStateError("receive");
+            }
+        }, new ChannelTopic(keyPrefix + channel));
+    }
+}
@@ -0,0 +1,27 @@
+package com.hs.auth.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 여러 인스턴스가 공유하는 상태 저장소 SPI
+// 로컬 캐시는 각 인스턴스에 두고, 변경 사실은 publish/subscribe로 전파하여 인스턴스 간 불일치를 없앰
+// 구현: memory (단일 인스턴스, 기본값), redis (app.shared-state.type=redis)
+// 저장소 장애는 예외로 전파하지 않음 (get은 empty, 나머지는 무시) -> 호출 측은 DB로 대체
+public interface SharedStateStore {
+
+    // 키 조회 (없거나 만료되었으면 empty)
+    Optional<String> get(String key);
+
+    // TTL과 함께 저장
+    void put(String key, String value, Duration ttl);
+
+    // 키 삭제
+    void invalidate(String key);
+
+    // 채널로 메시지 발행 (발행한 인스턴스를 포함한 모든 구독자가 수신)
+    void publish(String channel, String message);
+
+    // 채널 구독 (리스너는 멱등이어야 함)
+    void subscribe(String channel, Consumer<String> listener);
+}
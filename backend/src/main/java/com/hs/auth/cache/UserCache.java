@@ -0,0 +1,94 @@
+package com.hs.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hs.auth.dto.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 사용자 스냅샷 로컬 캐시 (ID, 이메일 키)
+// 변경은 트랜잭션 커밋 이후 무효화하여 커밋 전 데이터가 다시 캐시되지 않도록 함
+// 무효화는 공유 상태 저장소 채널로 전파되어 다른 인스턴스의 로컬 캐시도 함께 무효화
+// 로그인 비밀번호 검증은 이 캐시를 쓰지 않음 (UserQueryService.findLoginSnapshotByEmail)
+@Slf4j
+@Component
+public class UserCache {
+
+    private static final String INVALIDATION_CHANNEL = "user-cache.invalidate";
+
+    private final Cache<Long, UserSnapshot> byId;
+    private final Cache<String, UserSnapshot> byEmail;
+    private final SharedStateStore sharedStateStore;
+
+    public UserCache(MeterRegistry meterRegistry, SharedStateStore sharedStateStore,
+            @Value("${app.cache.user.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.user.ttl:10m}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "users.by-email");
+
+        this.sharedStateStore = sharedStateStore;
+        sharedStateStore.subscribe(INVALIDATION_CHANNEL, this::onInvalidation);
+    }
+
+    // ID로 조회, 없으면 loader로 로드 후 캐시 (존재하지 않는 사용자는 캐시하지 않음)
+    public Optional<UserSnapshot> getById(Long userId, Function<Long, Optional<UserSnapshot>> loader) {
+        return Optional.ofNullable(byId.get(userId, id -> loader.apply(id).orElse(null)));
+    }
+
+    // 이메일로 조회, 없으면 loader로 로드 후 캐시 (존재하지 않는 사용자는 캐시하지 않음)
+    public Optional<UserSnapshot> getByEmail(String email, Function<String, Optional<UserSnapshot>> loader) {
+        return Optional.ofNullable(byEmail.get(email, key -> loader.apply(key).orElse(null)));
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 무효화 (트랜잭션 밖이면 즉시 무효화)
+    public void evictAfterCommit(Long userId, String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId, email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId, email);
+            }
+        });
+    }
+
+    // 모든 인스턴스에서 무효화 (메시지: userId:email)
+    public void evict(Long userId, String email) {
+        evictLocal(userId, email);
+        sharedStateStore.publish(INVALIDATION_CHANNEL, userId + ":" + email);
+    }
+
+    private void evictLocal(Long userId, String email) {
+        byId.invalidate(userId);
+        byEmail.invalidate(email);
+        log.debug("사용자 캐시 무효화: userId={}", userId);
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split(":", 2);
+        evictLocal(Long.valueOf(parts[0]), parts[1]);
+    }
+}
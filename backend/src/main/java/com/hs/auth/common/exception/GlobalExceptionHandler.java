@@ -3,6 +3,8 @@ package com.hs.auth.common.exception;
 import com.hs.auth.common.dto.ApiResponse;
 import com.hs.auth.constants.AppConstants;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -51,6 +53,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.<Void>error(409, ex.getMessage()));
     }
 
+    // 유니크 제약 위반 처리 (중복 검사 이후 동시에 같은 값으로 가입/수정한 경우)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        log.warn("제약 조건 위반: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.<Void>error(409, AppConstants.Messages.DUPLICATE_USER_INFO));
+    }
+
     // 인증 관련 예외 처리
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ApiResponse<Void>> handleAuthenticationException(AuthenticationException ex) {
@@ -83,6 +93,24 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.<Void>error(403, AppConstants.Messages.ACCESS_DENIED));
     }
 
+    // 서버 포화 예외 처리 (비밀번호 해싱 대기열 포화 등)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        log.warn("요청 거절 (서버 포화): {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.<Void>error(503, ex.getMessage()));
+    }
+
+    // 로그인 시도 제한 예외 처리
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.<Void>error(429, ex.getMessage()));
+    }
+
     // 기타 모든 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
@@ -0,0 +1,23 @@
+package com.hs.auth.common.exception;
+
+import com.hs.auth.constants.AppConstants;
+
+// 서버 자원이 포화 상태여서 요청을 즉시 거절할 때 발생하는 예외
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static ServiceUnavailableException busy() {
+        return new ServiceUnavailableException(AppConstants.Messages.SERVER_BUSY);
+    }
+
+    public static ServiceUnavailableException busy(Throwable cause) {
+        return new ServiceUnavailableException(AppConstants.Messages.SERVER_BUSY, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package com.hs.auth.common.exception;
+
+import com.hs.auth.constants.AppConstants;
+import lombok.Getter;
+
+import java.time.Duration;
+
+// 요청 빈도 제한 또는 잠금으로 요청을 거절할 때 발생하는 예외
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    // 다시 시도할 수 있을 때까지 남은 시간
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public static TooManyRequestsException loginThrottled(Duration retryAfter) {
+        return new TooManyRequestsException(AppConstants.Messages.LOGIN_THROTTLED, retryAfter);
+    }
+}
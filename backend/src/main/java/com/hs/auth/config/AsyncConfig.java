@@ -1,23 +1,52 @@
 package com.hs.auth.config;
 
+import com.hs.auth.metrics.AuthMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.context.annotation.Bean;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
-@EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "emailExecutor")
-    public Executor emailExecutor() {
+    // 비밀번호 해싱 전용 Thread Pool (CPU 바운드 작업이므로 코어 수만큼만 동시 실행)
+    // 가상 스레드 모드에서도 플랫폼 스레드를 유지 (가상 스레드는 CPU 작업의 동시성을 늘려주지 않음)
+    // 대기열이 가득 차면 AbortPolicy로 즉시 거절하여 요청 스레드가 무한정 대기하지 않도록 함
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.password-hash.pool-size:0}") int poolSize,
+            @Value("${app.password-hash.queue-capacity:50}") int queueCapacity,
+            AuthMetrics authMetrics) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PasswordHash-");
+        executor.setRejectedExecutionHandler(
+                authMetrics.countingRejectionHandler("passwordHashExecutor", new ThreadPoolExecutor.AbortPolicy()));
+        executor.initialize();
+        authMetrics.bindExecutor("passwordHashExecutor", executor);
+        return executor;
+    }
+
+    // SMTP 연결별 묶음 발송 Thread Pool (SMTP 연결 풀 크기만큼 동시 발송)
+    // 대기열 없이 모든 스레드가 사용 중이면 호출한 스레드(발송 대기열 스케줄러)가 직접 발송
+    @Bean(name = "smtpSendExecutor")
+    public ThreadPoolTaskExecutor smtpSendExecutor(
+            @Value("${app.mail.pool.max-size:4}") int poolSize,
+            AuthMetrics authMetrics) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2); // 기본 실행 대기 중인 Thread 수
-        executor.setMaxPoolSize(5); // 동시 동작하는 최대 Thread 수
-        executor.setQueueCapacity(10); // Thread Pool Queue 크기
-        executor.setThreadNamePrefix("EmailAsync-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("SmtpSend-");
+        executor.setRejectedExecutionHandler(
+                authMetrics.countingRejectionHandler("smtpSendExecutor", new ThreadPoolExecutor.CallerRunsPolicy()));
         executor.initialize();
+        authMetrics.bindExecutor("smtpSendExecutor", executor);
         return executor;
     }
 }
\ No newline at end of file
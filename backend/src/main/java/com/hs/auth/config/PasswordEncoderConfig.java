@@ -0,0 +1,109 @@
+package com.hs.auth.config;
+
+import com.hs.auth.security.PasswordEncoderCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 비밀번호 암호화 설정
+// 저장 형식: {bcrypt}..., {argon2}..., {pbkdf2@<반복 횟수>}... (접두사가 없는 기존 해시는 BCrypt로 검증)
+// 새 해시는 app.password-encoder.algorithm으로 생성하며, 로그인 시 알고리즘/비용이 다르면 다시 해싱
+// PBKDF2 해시에는 반복 횟수가 저장되지 않으므로 id에 반복 횟수를 넣고, 사용했던 반복 횟수를 모두 등록해 검증
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final int BCRYPT_MAX_STRENGTH = 16;
+    private static final int ARGON2_MAX_ITERATIONS = 10;
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.password-encoder.algorithm:bcrypt}") String algorithm,
+            @Value("${app.password-encoder.target-latency:0ms}") Duration targetLatency,
+            @Value("${app.password-encoder.bcrypt.strength:12}") int bcryptStrength,
+            @Value("${app.password-encoder.argon2.memory-kb:19456}") int argon2MemoryKb,
+            @Value("${app.password-encoder.argon2.iterations:2}") int argon2Iterations,
+            @Value("${app.password-encoder.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${app.password-encoder.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+            @Value("${app.password-encoder.pbkdf2.previous-iterations:}") List<Integer> pbkdf2PreviousIterations) {
+
+        // 목표 지연 시간이 설정되면 사용 중인 알고리즘의 비용만 측정하여 산정 (설정값은 하한)
+        // BCrypt/Argon2는 비용이 해시에 저장되지만 PBKDF2는 그렇지 않으므로 측정하지 않음
+        // (기동마다 반복 횟수가 달라지면 이전 해시를 검증할 수 없음)
+        boolean calibrate = !targetLatency.isZero();
+        if (calibrate && BCRYPT.equals(algorithm)) {
+            bcryptStrength = PasswordEncoderCalibrator.calibrateBcryptStrength(bcryptStrength, BCRYPT_MAX_STRENGTH,
+                    targetLatency, BCryptPasswordEncoder::new);
+        }
+        if (calibrate && ARGON2.equals(algorithm)) {
+            int memoryKb = argon2MemoryKb;
+            int parallelism = argon2Parallelism;
+            argon2Iterations = PasswordEncoderCalibrator.calibrateIterations("Argon2id", argon2Iterations,
+                    ARGON2_MAX_ITERATIONS, targetLatency,
+                    iterations -> argon2(memoryKb, iterations, parallelism));
+        }
+        if (calibrate && PBKDF2.equals(algorithm)) {
+            log.info("PBKDF2는 반복 횟수가 해시에 저장되지 않아 target-latency 측정을 건너뜀: iterations={}",
+                    pbkdf2Iterations);
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2(argon2MemoryKb, argon2Iterations, argon2Parallelism));
+        // 반복 횟수 없이 저장된 {pbkdf2} 해시는 현재 반복 횟수로 검증 (로그인 시 버전 id로 다시 해싱됨)
+        encoders.put(PBKDF2, pbkdf2(pbkdf2Iterations));
+        // 반복 횟수를 바꾼 뒤에도 이전 해시를 검증할 수 있도록 사용했던 반복 횟수를 모두 등록
+        for (int iterations : pbkdf2PreviousIterations) {
+            encoders.put(pbkdf2Id(iterations), pbkdf2(iterations));
+        }
+        encoders.put(pbkdf2Id(pbkdf2Iterations), pbkdf2(pbkdf2Iterations));
+
+        if (!List.of(BCRYPT, ARGON2, PBKDF2).contains(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 암호화 알고리즘입니다: " + algorithm);
+        }
+        // 저장된 id가 현재 id와 다르면 upgradeEncoding이 true (PBKDF2 반복 횟수 변경 포함)
+        String idForEncode = PBKDF2.equals(algorithm) ? pbkdf2Id(pbkdf2Iterations) : algorithm;
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두사 없이 저장된 기존 BCrypt 해시 검증 (로그인 시 접두사가 붙은 형식으로 다시 해싱됨)
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        log.info("비밀번호 암호화 설정: algorithm={}, bcrypt.strength={}, argon2.iterations={}, pbkdf2.iterations={}, "
+                + "pbkdf2.previous-iterations={}", algorithm, bcryptStrength, argon2Iterations, pbkdf2Iterations,
+                pbkdf2PreviousIterations);
+        return passwordEncoder;
+    }
+
+    // Argon2id (BouncyCastle 구현)
+    private static PasswordEncoder argon2(int memoryKb, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(SALT_LENGTH, HASH_LENGTH, parallelism, memoryKb, iterations);
+    }
+
+    // PBKDF2 해시 id (예: pbkdf2@310000)
+    static String pbkdf2Id(int iterations) {
+        return PBKDF2 + "@" + iterations;
+    }
+
+    private static PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", SALT_LENGTH, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
@@ -2,6 +2,7 @@ package com.hs.auth.config;
 
 import com.hs.auth.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,10 +10,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -27,18 +27,31 @@ public class SecurityConfig {
 
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+        // 내부망 전용 관리 포트 (actuator), 설정되지 않으면 -1
+        @Value("${management.server.port:-1}")
+        private int managementPort;
+
+        @Value("${server.port:8080}")
+        private int serverPort;
+
         @Bean
         public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
                 http
                                 .authorizeHttpRequests(authz -> authz
                                                 // H2 콘솔 접근 허용
                                                 .requestMatchers(AppConstants.Urls.H2_CONSOLE_PATTERN).permitAll()
+                                                // 관리 포트로 들어온 요청 (헬스 체크 및 Prometheus 수집, 외부에 공개하지 않는 포트)
+                                                .requestMatchers(managementPortRequest()).permitAll()
+                                                // 공개 포트에서는 헬스 체크만 허용하고 운영 지표는 노출하지 않음
+                                                .requestMatchers(AppConstants.Urls.ACTUATOR_HEALTH).permitAll()
+                                                .requestMatchers(AppConstants.Urls.ACTUATOR_PROMETHEUS).denyAll()
                                                 // 인증 불필요한 API
                                                 .requestMatchers(AppConstants.Urls.AUTH_SIGNUP,
                                                                 AppConstants.Urls.AUTH_LOGIN,
                                                                 AppConstants.Urls.AUTH_REFRESH,
                                                                 AppConstants.Urls.AUTH_PASSWORD_RESET_REQUEST,
-                                                                AppConstants.Urls.AUTH_PASSWORD_RESET)
+                                                                AppConstants.Urls.AUTH_PASSWORD_RESET,
+                                                                AppConstants.Urls.JWKS)
                                                 .permitAll()
                                                 .anyRequest().authenticated())
                                 .csrf(AbstractHttpConfigurer::disable)
@@ -60,10 +73,10 @@ public class SecurityConfig {
                 return http.build();
         }
 
-        // 비밀번호 암호화를 위한 PasswordEncoder 빈 등록
-        @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder(AppConstants.Security.BCRYPT_STRENGTH);
+        // 관리 포트(management.server.port)로 들어온 요청 (공개 포트와 같게 설정되면 적용하지 않음)
+        private RequestMatcher managementPortRequest() {
+                return request -> managementPort > 0 && managementPort != serverPort
+                                && request.getLocalPort() == managementPort;
         }
 
         // CORS 설정
@@ -0,0 +1,44 @@
+package com.hs.auth.config;
+
+import com.hs.auth.cache.InMemorySharedStateStore;
+import com.hs.auth.cache.RedisSharedStateStore;
+import com.hs.auth.cache.SharedStateStore;
+import com.hs.auth.metrics.AuthMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 공유 상태 저장소 설정 (app.shared-state.type: memory | redis)
+@Configuration
+public class SharedStateConfig {
+
+    // 단일 인스턴스 (기본값)
+    @Bean
+    @ConditionalOnProperty(name = "app.shared-state.type", havingValue = "memory", matchIfMissing = true)
+    public SharedStateStore inMemorySharedStateStore(
+            @Value("${app.shared-state.memory.maximum-size:100000}") long maximumSize) {
+        return new InMemorySharedStateStore(maximumSize);
+    }
+
+    // 다중 인스턴스 (spring.data.redis.* 연결 설정 사용)
+    @Bean
+    @ConditionalOnProperty(name = "app.shared-state.type", havingValue = "redis")
+    public RedisMessageListenerContainer sharedStateListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.shared-state.type", havingValue = "redis")
+    public SharedStateStore redisSharedStateStore(StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer sharedStateListenerContainer,
+            @Value("${app.shared-state.key-prefix:hs-auth:}") String keyPrefix,
+            AuthMetrics authMetrics) {
+        return new RedisSharedStateStore(redisTemplate, sharedStateListenerContainer, keyPrefix, authMetrics);
+    }
+}
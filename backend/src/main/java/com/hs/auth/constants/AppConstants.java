@@ -16,7 +16,6 @@ public final class AppConstants {
 
     // ===== 보안 관련 상수 =====
     public static final class Security {
-        public static final int BCRYPT_STRENGTH = 12;
         public static final int JWT_SECRET_MIN_LENGTH = 32;
 
         private Security() {
@@ -55,6 +54,7 @@ public final class AppConstants {
         public static final String PROFILE_UPDATE_SUCCESS = "프로필이 수정되었습니다.";
         public static final String PASSWORD_CHANGE_SUCCESS = "비밀번호가 변경되었습니다.";
         public static final String LOGOUT_SUCCESS = "로그아웃이 완료되었습니다.";
+        public static final String LOGOUT_ALL_SUCCESS = "모든 기기에서 로그아웃되었습니다.";
 
         // 에러 메시지
         public static final String PASSWORD_MISMATCH = "비밀번호가 일치하지 않습니다.";
@@ -78,11 +78,14 @@ public final class AppConstants {
         public static final String DUPLICATE_EMAIL = "이미 사용 중인 이메일입니다: ";
         public static final String DUPLICATE_NICKNAME = "이미 사용 중인 닉네임입니다: ";
         public static final String DUPLICATE_PHONE_NUMBER = "이미 사용 중인 전화번호입니다: ";
+        public static final String DUPLICATE_USER_INFO = "이미 사용 중인 회원 정보입니다.";
 
         // API 응답 메시지
         public static final String VALIDATION_FAILED = "입력 데이터가 올바르지 않습니다.";
         public static final String ACCESS_DENIED = "접근 권한이 없습니다.";
         public static final String INTERNAL_SERVER_ERROR = "서버 내부 오류가 발생했습니다.";
+        public static final String LOGIN_THROTTLED = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+        public static final String SERVER_BUSY = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
 
         private Messages() {
         }
@@ -96,17 +99,54 @@ public final class AppConstants {
         public static final String AUTH_REFRESH = "/auth/refresh";
         public static final String AUTH_PASSWORD_RESET_REQUEST = "/auth/password/reset-request";
         public static final String AUTH_PASSWORD_RESET = "/auth/password/reset";
+        public static final String JWKS = "/.well-known/jwks.json";
+        public static final String ACTUATOR_HEALTH = "/actuator/health";
+        public static final String ACTUATOR_PROMETHEUS = "/actuator/prometheus";
 
         private Urls() {
         }
     }
 
+    // ===== 메트릭 이름 상수 =====
+    public static final class Metrics {
+        public static final String PASSWORD_HASH = "auth.password.hash";
+        public static final String PASSWORD_HASH_REJECTED = "auth.password.hash.rejected";
+        public static final String TOKEN_SIGN = "auth.token.sign";
+        public static final String TOKEN_VERIFY = "auth.token.verify";
+        public static final String USER_LOOKUP = "auth.user.lookup";
+        public static final String EMAIL_SEND = "auth.email.send";
+        public static final String EMAIL_OUTBOX = "auth.email.outbox";
+        public static final String SMTP_CONNECTIONS = "auth.smtp.connections";
+        public static final String SMTP_CONNECTIONS_OPENED = "auth.smtp.connections.opened";
+        public static final String LOGIN = "auth.login";
+        public static final String LOGIN_THROTTLED = "auth.login.throttled";
+        public static final String LOGIN_VERIFY = "auth.login.verify";
+        public static final String REFRESH = "auth.refresh";
+        public static final String REFRESH_REUSE = "auth.refresh.reuse";
+        public static final String REVOCATION_ENTRIES = "auth.revocation.entries";
+        public static final String SHARED_STATE_ERRORS = "auth.shared-state.errors";
+        public static final String CLEANUP_DELETED = "auth.token.cleanup.deleted";
+        public static final String CLEANUP_RUN = "auth.token.cleanup.run";
+        public static final String CLEANUP_RUN_ROWS = "auth.token.cleanup.run.rows";
+        public static final String EXECUTOR_QUEUE_SIZE = "auth.executor.queue.size";
+        public static final String EXECUTOR_ACTIVE = "auth.executor.active";
+        public static final String EXECUTOR_REJECTED = "auth.executor.rejected";
+
+        private Metrics() {
+        }
+    }
+
     // ===== HTTP 관련 상수 =====
     public static final class Http {
         public static final String REFRESH_TOKEN_COOKIE_NAME = "refreshToken";
         public static final String AUTHORIZATION_HEADER = "Authorization";
         public static final String BEARER_PREFIX = "Bearer ";
         public static final String USER_ID_CLAIM = "userId";
+        public static final String ROLES_CLAIM = "roles";
+        public static final String FAMILY_ID_CLAIM = "fid";
+        public static final String TOKEN_VERSION_CLAIM = "ver";
+        public static final String TOKEN_TYPE_CLAIM = "typ";
+        public static final String TOKEN_TYPE_REFRESH = "refresh";
 
         private Http() {
         }
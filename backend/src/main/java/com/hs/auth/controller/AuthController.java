@@ -48,9 +48,9 @@ public class AuthController {
     // 로그인
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<JwtResponse>> login(@Valid @RequestBody LoginRequest request,
-            HttpServletResponse response) {
+            HttpServletRequest httpRequest, HttpServletResponse response) {
 
-        JwtResponse jwtResponse = userService.login(request);
+        JwtResponse jwtResponse = userService.login(request, httpRequest.getRemoteAddr());
 
         // Refresh Token을 HTTP-only Cookie로 설정
         CookieUtil.setRefreshTokenCookie(response, jwtResponse.getRefreshToken());
@@ -111,7 +111,11 @@ public class AuthController {
 
     // 로그아웃
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request, HttpServletResponse response) {
+        // 현재 Access Token과 서버에 저장된 Refresh Token 폐기
+        userService.logout(jwtUtil.extractTokenFromRequest(request),
+                CookieUtil.extractRefreshTokenFromCookie(request));
+
         // Refresh Token Cookie 삭제
         CookieUtil.clearRefreshTokenCookie(response);
 
@@ -119,6 +123,17 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(AppConstants.Messages.LOGOUT_SUCCESS, null));
     }
 
+    // 모든 기기에서 로그아웃
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(HttpServletRequest request, HttpServletResponse response) {
+        Long userId = jwtUtil.getCurrentUserIdFromRequest(request);
+        userService.logoutAll(userId);
+
+        CookieUtil.clearRefreshTokenCookie(response);
+
+        return ResponseEntity.ok(ApiResponse.success(AppConstants.Messages.LOGOUT_ALL_SUCCESS, null));
+    }
+
     // 비밀번호 재설정 요청
     @PostMapping("/password/reset-request")
     public ApiResponse<?> requestPasswordReset(@Valid @RequestBody ResetPasswordRequest request) {
@@ -0,0 +1,28 @@
+package com.hs.auth.controller;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.security.JwtKeyProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// JWT 검증용 공개 키 (JWKS) 제공
+// 리소스 서버는 이 키로 토큰을 로컬에서 검증하므로 인증 API를 호출할 필요가 없음
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyProvider keyProvider;
+
+    @GetMapping(AppConstants.Urls.JWKS)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(15)).cachePublic())
+                .body(keyProvider.getJwkSet());
+    }
+}
@@ -0,0 +1,30 @@
+package com.hs.auth.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+// 중복 검증 쿼리 결과 (이메일/닉네임/전화번호 각각 이미 사용 중인지)
+@Getter
+@ToString
+public final class DuplicateCheckResult {
+
+    private final boolean emailTaken;
+    private final boolean nicknameTaken;
+    private final boolean phoneNumberTaken;
+
+    // 회원가입: 이메일, 닉네임, 전화번호 일치 건수
+    public DuplicateCheckResult(Long emailCount, Long nicknameCount, Long phoneNumberCount) {
+        this.emailTaken = isPositive(emailCount);
+        this.nicknameTaken = isPositive(nicknameCount);
+        this.phoneNumberTaken = isPositive(phoneNumberCount);
+    }
+
+    // 프로필 수정: 이메일은 변경하지 않으므로 닉네임, 전화번호 일치 건수만 사용
+    public DuplicateCheckResult(Long nicknameCount, Long phoneNumberCount) {
+        this(0L, nicknameCount, phoneNumberCount);
+    }
+
+    private static boolean isPositive(Long count) {
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.hs.auth.dto;
+
+import com.hs.auth.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 캐시 및 읽기 전용 경로에서 사용하는 사용자 정보 스냅샷 (불변, 영속성 컨텍스트와 무관)
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "password")
+public final class UserSnapshot {
+
+    private final Long userId;
+    private final String email;
+    private final String password;
+    private final String nickname;
+    private final String name;
+    private final String phoneNumber;
+    private final long tokenVersion;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getUserId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getNickname(),
+                user.getName(),
+                user.getPhoneNumber(),
+                user.getTokenVersion(),
+                user.getCreatedAt(),
+                user.getUpdatedAt());
+    }
+}
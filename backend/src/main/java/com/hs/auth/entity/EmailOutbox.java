@@ -0,0 +1,85 @@
+package com.hs.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// 이메일 발송 대기열 (요청 트랜잭션에서 함께 저장하고 EmailOutboxDispatcher가 발송, 실패 시 재시도 후 DEAD)
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_email_outbox_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // MySQL에서 enum 컬럼으로 검증하지 않도록 VARCHAR로 고정
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "email_type", nullable = false, length = 32)
+    private Type type;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    // 템플릿 언어 선택용 수신자 로케일 (BCP 47 언어 태그, null이면 기본 템플릿)
+    @Column(length = 35)
+    private String locale;
+
+    // 메일 본문 변수 (JSON, 발송 완료 후 비움)
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 시도 시각 (발송 중에는 선점 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // 메일 종류별 템플릿 이름 (templates/email/<template>[_<로케일>].txt/.html)
+    public enum Type {
+        PASSWORD_RESET("password-reset");
+
+        private final String template;
+
+        Type(String template) {
+            this.template = template;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+    }
+
+    public enum Status {
+        PENDING, SENT, DEAD
+    }
+}
@@ -0,0 +1,52 @@
+package com.hs.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 패밀리 (로그인 1회당 1행, 토큰 갱신 시 현재 jti를 새 jti로 교체)
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 현재 유효한 리프레시 토큰의 jti (이전 jti는 재사용 시 패밀리 폐기 대상)
+    @Column(nullable = false, unique = true, length = 36)
+    private String jti;
+
+    @Column(name = "family_id", nullable = false, unique = true, length = 36)
+    private String familyId;
+
+    // 갱신 경로에서 사용자 엔티티를 로드하지 않도록 ID만 보관
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public boolean isRevoked() {
+        return this.revokedAt != null;
+    }
+}
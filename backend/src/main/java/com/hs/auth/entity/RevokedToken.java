@@ -0,0 +1,47 @@
+package com.hs.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 폐기된 액세스 토큰 (jti 단위 또는 사용자 단위 발급 시각 기준)
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_created_at", columnList = "created_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 폐기된 토큰 ID (사용자 단위 폐기는 null)
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 이 시각 이전에 발급된 사용자의 모든 토큰 폐기 (jti 단위 폐기는 null)
+    @Column(name = "issued_before")
+    private LocalDateTime issuedBefore;
+
+    // 폐기 대상 토큰이 모두 만료되는 시각 (이후 정리)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isUserWide() {
+        return this.jti == null;
+    }
+}
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname"),
+        @UniqueConstraint(name = "uk_users_phone_number", columnNames = "phone_number")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -38,6 +41,11 @@ public class User {
     @Column(nullable = false, length = AppConstants.Validation.PHONE_NUMBER_MAX_LENGTH)
     private String phoneNumber;
 
+    // 비밀번호 변경/재설정 시 증가 (이전 버전으로 발급된 토큰은 거부)
+    @Column(nullable = false)
+    @Builder.Default
+    private long tokenVersion = 0L;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<PasswordResetToken> passwordResetTokens = new ArrayList<>();
@@ -52,6 +60,12 @@ public class User {
     // 비밀번호 업데이트
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
+        incrementTokenVersion();
+    }
+
+    // 토큰 버전 증가 (이전 버전으로 발급된 액세스 토큰 무효화)
+    public void incrementTokenVersion() {
+        this.tokenVersion++;
     }
 
     // 프로필 업데이트
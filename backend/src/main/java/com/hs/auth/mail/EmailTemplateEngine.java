@@ -0,0 +1,208 @@
+package com.hs.auth.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 이메일 템플릿 엔진 (기동 시 templates/email의 템플릿을 한 번만 읽어 리터럴/변수 조각으로 컴파일하고, 발송 시에는 조각을 버퍼에 이어 붙이기만 함)
+// 파일 이름: <이름>[_<로케일>].txt (첫 줄 "Subject: ..." + 빈 줄 + 본문), <이름>[_<로케일>].html
+// 변수는 {{name}} 형식이며 HTML 템플릿에서는 값을 이스케이프, 로케일은 en_US -> en -> 기본 순으로 찾음
+@Slf4j
+@Component
+public class EmailTemplateEngine {
+
+    private static final String SUBJECT_HEADER = "Subject:";
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String HTML_EXTENSION = ".html";
+    private static final String DEFAULT_LOCALE = "";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    // 템플릿 이름 -> 로케일("" = 기본) -> 컴파일된 템플릿
+    private final Map<String, Map<String, EmailTemplate>> templates;
+
+    // 렌더링 버퍼 재사용 (발송 스레드별 하나)
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    public EmailTemplateEngine(@Value("${app.mail.templates.location:classpath:templates/email/}") String location)
+            throws IOException {
+        this.templates = load(location);
+        log.info("이메일 템플릿 로드 완료: {}", templates.keySet());
+    }
+
+    // 템플릿 렌더링 (변수가 빠지면 IllegalArgumentException)
+    public RenderedEmail render(String name, Locale locale, Map<String, String> variables) {
+        EmailTemplate template = resolve(name, locale);
+        return new RenderedEmail(
+                render(template.subject(), variables, false),
+                render(template.text(), variables, false),
+                render(template.html(), variables, true));
+    }
+
+    private EmailTemplate resolve(String name, Locale locale) {
+        Map<String, EmailTemplate> variants = templates.get(name);
+        if (variants == null) {
+            throw new IllegalArgumentException("이메일 템플릿이 없습니다: " + name);
+        }
+        if (locale != null) {
+            EmailTemplate exact = variants.get(locale.toString());
+            if (exact != null) {
+                return exact;
+            }
+            EmailTemplate language = variants.get(locale.getLanguage());
+            if (language != null) {
+                return language;
+            }
+        }
+        return variants.get(DEFAULT_LOCALE);
+    }
+
+    private String render(CompiledTemplate template, Map<String, String> variables, boolean escapeHtml) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        template.writeTo(buffer, variables, escapeHtml);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove(); // 한 번 큰 메일을 렌더링했다고 큰 버퍼를 계속 잡고 있지 않도록 함
+        }
+        return rendered;
+    }
+
+    private static Map<String, Map<String, EmailTemplate>> load(String location) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location + "*");
+        Map<String, String> texts = new HashMap<>();
+        Map<String, String> htmls = new HashMap<>();
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null) {
+                continue;
+            }
+            if (filename.endsWith(TEXT_EXTENSION)) {
+                texts.put(filename.substring(0, filename.length() - TEXT_EXTENSION.length()), read(resource));
+            } else if (filename.endsWith(HTML_EXTENSION)) {
+                htmls.put(filename.substring(0, filename.length() - HTML_EXTENSION.length()), read(resource));
+            }
+        }
+
+        // 텍스트와 HTML이 짝을 이루지 않으면 기동 시 실패 (발송 시점까지 오류가 숨지 않도록)
+        Map<String, Map<String, EmailTemplate>> loaded = new HashMap<>();
+        for (Map.Entry<String, String> entry : texts.entrySet()) {
+            String key = entry.getKey();
+            String html = htmls.remove(key);
+            if (html == null) {
+                throw new IllegalStateException("HTML 템플릿이 없습니다: " + key + HTML_EXTENSION);
+            }
+            int separator = key.indexOf('_');
+            String name = separator < 0 ? key : key.substring(0, separator);
+            String locale = separator < 0 ? DEFAULT_LOCALE : StringUtils.parseLocale(key.substring(separator + 1)).toString();
+            loaded.computeIfAbsent(name, n -> new HashMap<>()).put(locale, compile(key, entry.getValue(), html));
+        }
+        if (!htmls.isEmpty()) {
+            throw new IllegalStateException("텍스트 템플릿이 없습니다: " + htmls.keySet());
+        }
+        for (Map.Entry<String, Map<String, EmailTemplate>> entry : loaded.entrySet()) {
+            if (!entry.getValue().containsKey(DEFAULT_LOCALE)) {
+                throw new IllegalStateException("기본 로케일 템플릿이 없습니다: " + entry.getKey());
+            }
+            entry.setValue(Map.copyOf(entry.getValue()));
+        }
+        return Map.copyOf(loaded);
+    }
+
+    private static EmailTemplate compile(String key, String text, String html) {
+        if (!text.startsWith(SUBJECT_HEADER)) {
+            throw new IllegalStateException("텍스트 템플릿 첫 줄에 제목이 없습니다: " + key + TEXT_EXTENSION);
+        }
+        int lineEnd = text.indexOf('\n');
+        String subject = (lineEnd < 0 ? text : text.substring(0, lineEnd)).substring(SUBJECT_HEADER.length()).strip();
+        String body = lineEnd < 0 ? "" : text.substring(lineEnd + 1).stripLeading();
+        return new EmailTemplate(
+                CompiledTemplate.parse(key, subject),
+                CompiledTemplate.parse(key, body),
+                CompiledTemplate.parse(key, html));
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        }
+    }
+
+    private record EmailTemplate(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+    }
+
+    // 리터럴과 변수 이름이 번갈아 오는 조각 목록 (짝수 번째: 리터럴, 홀수 번째: 변수 이름)
+    private record CompiledTemplate(String[] parts, int literalLength) {
+
+        static CompiledTemplate parse(String key, String source) {
+            List<String> parts = new ArrayList<>();
+            int literalLength = 0;
+            int position = 0;
+            while (true) {
+                int open = source.indexOf("{{", position);
+                if (open < 0) {
+                    parts.add(source.substring(position));
+                    literalLength += source.length() - position;
+                    break;
+                }
+                int close = source.indexOf("}}", open + 2);
+                if (close < 0) {
+                    throw new IllegalStateException("닫히지 않은 변수가 있습니다: " + key + " (" + open + ")");
+                }
+                String variable = source.substring(open + 2, close).strip();
+                if (variable.isEmpty()) {
+                    throw new IllegalStateException("빈 변수 이름이 있습니다: " + key + " (" + open + ")");
+                }
+                parts.add(source.substring(position, open));
+                parts.add(variable);
+                literalLength += open - position;
+                position = close + 2;
+            }
+            return new CompiledTemplate(parts.toArray(String[]::new), literalLength);
+        }
+
+        void writeTo(StringBuilder buffer, Map<String, String> variables, boolean escapeHtml) {
+            buffer.ensureCapacity(literalLength + 256);
+            for (int i = 0; i < parts.length; i++) {
+                if (i % 2 == 0) {
+                    buffer.append(parts[i]);
+                    continue;
+                }
+                String value = variables.get(parts[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("이메일 템플릿 변수가 없습니다: " + parts[i]);
+                }
+                if (escapeHtml) {
+                    appendEscaped(buffer, value);
+                } else {
+                    buffer.append(value);
+                }
+            }
+        }
+
+        private static void appendEscaped(StringBuilder buffer, String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> buffer.append("&amp;");
+                    case '<' -> buffer.append("&lt;");
+                    case '>' -> buffer.append("&gt;");
+                    case '"' -> buffer.append("&quot;");
+                    case '\'' -> buffer.append("&#39;");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+    }
+}
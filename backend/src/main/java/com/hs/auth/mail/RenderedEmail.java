@@ -0,0 +1,5 @@
+package com.hs.auth.mail;
+
+// 렌더링된 이메일 (제목, 텍스트 본문, HTML 본문)
+public record RenderedEmail(String subject, String text, String html) {
+}
@@ -0,0 +1,260 @@
+package com.hs.auth.mail;
+
+import com.hs.auth.metrics.AuthMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 인증된 SMTP 연결 풀 (STARTTLS/인증 핸드셰이크를 메일마다 반복하지 않고 연결을 재사용)
+// 메일 묶음을 연결 수만큼 나눠 연결별로 이어서 발송하고, 오래 쉰 연결은 NOOP으로 확인 후 사용, 유휴 시간이 지나면 닫음
+@Slf4j
+@Component
+public class SmtpConnectionPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final AuthMetrics authMetrics;
+    private final int maxSize;
+    private final int minBatchPerConnection;
+    private final int maxMessagesPerConnection;
+    private final long validateAfterNanos;
+    private final long maxIdleNanos;
+    private final long borrowTimeoutNanos;
+
+    // 최근에 반환된 연결을 먼저 사용 (LIFO, 오래 쉰 연결은 유휴 정리 대상으로 남김)
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public SmtpConnectionPool(JavaMailSenderImpl mailSender,
+            @Qualifier("smtpSendExecutor") ThreadPoolTaskExecutor sendExecutor,
+            AuthMetrics authMetrics,
+            @Value("${app.mail.pool.max-size:4}") int maxSize,
+            @Value("${app.mail.pool.min-batch-per-connection:10}") int minBatchPerConnection,
+            @Value("${app.mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+            @Value("${app.mail.pool.validate-after:5s}") Duration validateAfter,
+            @Value("${app.mail.pool.max-idle:60s}") Duration maxIdle,
+            @Value("${app.mail.pool.borrow-timeout:30s}") Duration borrowTimeout) {
+        this.mailSender = mailSender;
+        this.sendExecutor = sendExecutor;
+        this.authMetrics = authMetrics;
+        this.maxSize = maxSize;
+        this.minBatchPerConnection = Math.max(1, minBatchPerConnection);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.validateAfterNanos = validateAfter.toNanos();
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+        this.permits = new Semaphore(maxSize);
+        authMetrics.bindSmtpConnections(idle, active);
+    }
+
+    // 메일 묶음 발송 (연결별로 나눠 병렬 발송, 결과는 입력 순서대로 성공이면 null, 실패면 예외)
+    public List<MailException> sendAll(List<MimeMessage> messages) {
+        int groups = Math.max(1, Math.min(maxSize, messages.size() / minBatchPerConnection));
+        int groupSize = (messages.size() + groups - 1) / groups;
+
+        MailException[] results = new MailException[messages.size()];
+        if (groups == 1) {
+            // 한 묶음이면 호출한 스레드에서 바로 발송
+            sendGroup(messages, 0, messages.size(), results);
+            return Arrays.asList(results);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(groups);
+        for (int from = 0; from < messages.size(); from += groupSize) {
+            int start = from;
+            int end = Math.min(from + groupSize, messages.size());
+            futures.add(CompletableFuture.runAsync(() -> sendGroup(messages, start, end, results), sendExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    private void sendGroup(List<MimeMessage> messages, int start, int end, MailException[] results) {
+        PooledTransport transport = null;
+        int i = start;
+        try {
+            for (; i < end; i++) {
+                MimeMessage message = messages.get(i);
+                try {
+                    if (message.getSentDate() == null) {
+                        message.setSentDate(new Date());
+                    }
+                    message.saveChanges();
+                } catch (MessagingException e) {
+                    results[i] = new MailPreparationException(e);
+                    continue;
+                }
+
+                for (int attempt = 1; ; attempt++) {
+                    if (transport == null) {
+                        transport = borrow();
+                    }
+                    long sendStart = System.nanoTime();
+                    try {
+                        transport.send(message);
+                        authMetrics.recordEmailSend(System.nanoTime() - sendStart, true);
+                        results[i] = null;
+                        break;
+                    } catch (MessagingException e) {
+                        authMetrics.recordEmailSend(System.nanoTime() - sendStart, false);
+                        results[i] = new MailSendException("메일 발송 실패", e);
+                        if (transport.isHealthy()) {
+                            break; // 연결은 정상이고 메일 자체가 거절됨 (수신자 거부 등)
+                        }
+                        // 서버가 끊은 연결이면 새 연결로 교체하고 한 번 더 시도
+                        release(transport, true);
+                        transport = null;
+                        if (attempt > 1) {
+                            break;
+                        }
+                    }
+                }
+
+                if (transport != null && transport.sent >= maxMessagesPerConnection) {
+                    release(transport, false);
+                    transport = null;
+                }
+            }
+        } catch (MailException e) {
+            // 연결을 얻지 못하면 아직 보내지 못한 메일을 모두 같은 오류로 실패 처리
+            for (int j = i; j < end; j++) {
+                results[j] = e;
+            }
+        } finally {
+            if (transport != null) {
+                release(transport, false);
+            }
+        }
+    }
+
+    // 연결 획득 (유휴 연결 재사용, 오래 쉰 연결은 NOOP 확인 후 사용, 없으면 새로 연결)
+    private PooledTransport borrow() {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new MailSendException("SMTP 연결 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("SMTP 연결 대기 중 중단", e);
+        }
+
+        try {
+            PooledTransport transport;
+            while ((transport = idle.pollFirst()) != null) {
+                if (System.nanoTime() - transport.lastUsedAt < validateAfterNanos || transport.isHealthy()) {
+                    active.incrementAndGet();
+                    return transport;
+                }
+                transport.close();
+            }
+            transport = connect();
+            active.incrementAndGet();
+            return transport;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport transport, boolean broken) {
+        active.decrementAndGet();
+        if (broken || transport.sent >= maxMessagesPerConnection) {
+            transport.close();
+        } else {
+            transport.lastUsedAt = System.nanoTime();
+            idle.offerFirst(transport);
+        }
+        permits.release();
+    }
+
+    private PooledTransport connect() {
+        try {
+            Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+                    mailSender.getPassword());
+            authMetrics.incrementSmtpConnectionOpened();
+            log.debug("SMTP 연결 생성: {}:{}", mailSender.getHost(), mailSender.getPort());
+            return new PooledTransport(transport);
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            throw new MailSendException("SMTP 연결 실패", e);
+        }
+    }
+
+    // 유휴 시간이 지난 연결 정리 (서버가 먼저 끊기 전에 QUIT으로 닫음)
+    @Scheduled(fixedDelayString = "${app.mail.pool.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<PooledTransport> it = idle.descendingIterator();
+        while (it.hasNext()) {
+            PooledTransport transport = it.next();
+            if (now - transport.lastUsedAt > maxIdleNanos && idle.removeLastOccurrence(transport)) {
+                transport.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            transport.close();
+        }
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private volatile long lastUsedAt = System.nanoTime();
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+        }
+
+        // SMTP 연결 상태 확인 (SMTPTransport는 NOOP 명령으로 확인)
+        private boolean isHealthy() {
+            return transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패", e);
+            }
+        }
+    }
+}
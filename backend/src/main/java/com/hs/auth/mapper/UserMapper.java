@@ -1,5 +1,6 @@
 package com.hs.auth.mapper;
 
+import com.hs.auth.dto.UserSnapshot;
 import com.hs.auth.dto.request.SignUpRequest;
 import com.hs.auth.dto.response.UserResponse;
 import com.hs.auth.entity.User;
@@ -14,10 +15,14 @@ public interface UserMapper {
     // SignUpRequest -> User 엔티티 변환
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "password", ignore = true)
+    @Mapping(target = "tokenVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     User toEntity(SignUpRequest request);
 
     // User 엔티티 -> UserResponse 변환
     UserResponse toResponse(User user);
+
+    // UserSnapshot -> UserResponse 변환
+    UserResponse toResponse(UserSnapshot user);
 }
\ No newline at end of file
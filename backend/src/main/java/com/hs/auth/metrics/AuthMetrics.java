@@ -0,0 +1,235 @@
+package com.hs.auth.metrics;
+
+import com.hs.auth.constants.AppConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 인증 서비스 운영 지표 (Prometheus 형식으로 /actuator/prometheus 에 노출)
+@Component
+public class AuthMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    // 사용자 조회 타이머의 method 태그 값 (UserQueryService의 조회 메서드)
+    private static final List<String> USER_LOOKUP_METHODS = List.of("findByEmail", "findById", "findSnapshotById",
+            "findSnapshotByEmail", "findLoginSnapshotByEmail", "findDuplicates", "findDuplicatesExcluding");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchesTimer;
+    private final Counter passwordHashRejectedLoginCounter;
+    private final Counter passwordHashRejectedUpgradeCounter;
+    private final Timer tokenSignTimer;
+    private final Timer tokenVerifySuccessTimer;
+    private final Timer tokenVerifyFailureTimer;
+    private final Map<String, Timer> userLookupTimers;
+    private final Timer emailSendSuccessTimer;
+    private final Timer emailSendFailureTimer;
+    private final Counter smtpConnectionOpenedCounter;
+    private final Counter loginSuccessCounter;
+    private final Counter loginFailureCounter;
+    private final Timer loginVerifyFoundTimer;
+    private final Timer loginVerifyMissingTimer;
+    private final Counter loginThrottledIpCounter;
+    private final Counter loginThrottledEmailCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter refreshReuseCounter;
+    private final Map<String, CleanupMeters> cleanupMeters = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.passwordEncodeTimer = timer(AppConstants.Metrics.PASSWORD_HASH, "operation", "encode");
+        this.passwordMatchesTimer = timer(AppConstants.Metrics.PASSWORD_HASH, "operation", "matches");
+        this.passwordHashRejectedLoginCounter = counter(AppConstants.Metrics.PASSWORD_HASH_REJECTED, "purpose", "login");
+        this.passwordHashRejectedUpgradeCounter = counter(AppConstants.Metrics.PASSWORD_HASH_REJECTED, "purpose", "upgrade");
+        this.tokenSignTimer = Timer.builder(AppConstants.Metrics.TOKEN_SIGN).register(meterRegistry);
+        this.tokenVerifySuccessTimer = timer(AppConstants.Metrics.TOKEN_VERIFY, "result", SUCCESS);
+        this.tokenVerifyFailureTimer = timer(AppConstants.Metrics.TOKEN_VERIFY, "result", FAILURE);
+        this.userLookupTimers = USER_LOOKUP_METHODS.stream().collect(Collectors.toUnmodifiableMap(
+                Function.identity(), method -> timer(AppConstants.Metrics.USER_LOOKUP, "method", method)));
+        this.emailSendSuccessTimer = timer(AppConstants.Metrics.EMAIL_SEND, "result", SUCCESS);
+        this.emailSendFailureTimer = timer(AppConstants.Metrics.EMAIL_SEND, "result", FAILURE);
+        this.smtpConnectionOpenedCounter = Counter.builder(AppConstants.Metrics.SMTP_CONNECTIONS_OPENED)
+                .register(meterRegistry);
+        this.loginSuccessCounter = counter(AppConstants.Metrics.LOGIN, "result", SUCCESS);
+        this.loginFailureCounter = counter(AppConstants.Metrics.LOGIN, "result", FAILURE);
+        this.loginVerifyFoundTimer = timer(AppConstants.Metrics.LOGIN_VERIFY, "user", "found");
+        this.loginVerifyMissingTimer = timer(AppConstants.Metrics.LOGIN_VERIFY, "user", "missing");
+        this.loginThrottledIpCounter = counter(AppConstants.Metrics.LOGIN_THROTTLED, "key", "ip");
+        this.loginThrottledEmailCounter = counter(AppConstants.Metrics.LOGIN_THROTTLED, "key", "email");
+        this.refreshSuccessCounter = counter(AppConstants.Metrics.REFRESH, "result", SUCCESS);
+        this.refreshFailureCounter = counter(AppConstants.Metrics.REFRESH, "result", FAILURE);
+        this.refreshReuseCounter = Counter.builder(AppConstants.Metrics.REFRESH_REUSE).register(meterRegistry);
+    }
+
+    // 비밀번호 해싱 시간 측정
+    public String recordPasswordEncode(Supplier<String> encode) {
+        return passwordEncodeTimer.record(encode);
+    }
+
+    // 비밀번호 검증 시간 측정
+    public Boolean recordPasswordMatches(Supplier<Boolean> matches) {
+        return passwordMatchesTimer.record(matches);
+    }
+
+    // 해싱 풀에서 거절된 작업 수 (purpose: login | upgrade, upgrade는 대기열 여유가 없어 해시 갱신을 미룬 경우)
+    public void incrementPasswordHashRejected(boolean upgrade) {
+        (upgrade ? passwordHashRejectedUpgradeCounter : passwordHashRejectedLoginCounter).increment();
+    }
+
+    // 토큰 서명 시간 측정
+    public String recordTokenSign(Supplier<String> sign) {
+        return tokenSignTimer.record(sign);
+    }
+
+    // 토큰 검증 시간 기록
+    public void recordTokenVerify(long elapsedNanos, boolean success) {
+        (success ? tokenVerifySuccessTimer : tokenVerifyFailureTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 사용자 DB 조회 시간 측정 (타이머는 생성자에서 미리 등록, 목록에 없는 method만 호출 시 등록)
+    public <T> T recordUserLookup(String method, Supplier<T> lookup) {
+        Timer timer = userLookupTimers.get(method);
+        return (timer != null ? timer : timer(AppConstants.Metrics.USER_LOOKUP, "method", method)).record(lookup);
+    }
+
+    // 이메일 발송 시간 기록
+    public void recordEmailSend(long elapsedNanos, boolean success) {
+        (success ? emailSendSuccessTimer : emailSendFailureTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // SMTP 연결 풀 게이지 등록 (state: idle | active)
+    // 게이지는 대상 객체를 약하게 참조하므로 풀이 보유한 컬렉션/카운터 자체를 대상으로 등록 (메서드 참조 람다는 GC 후 NaN이 됨)
+    public void bindSmtpConnections(Collection<?> idle, AtomicInteger active) {
+        Gauge.builder(AppConstants.Metrics.SMTP_CONNECTIONS, idle, Collection::size)
+                .tag("state", "idle")
+                .register(meterRegistry);
+        Gauge.builder(AppConstants.Metrics.SMTP_CONNECTIONS, active, AtomicInteger::get)
+                .tag("state", "active")
+                .register(meterRegistry);
+    }
+
+    // 새로 연결한 SMTP 세션 수 (핸드셰이크 횟수, 발송 수 대비 낮을수록 연결 재사용이 잘 되고 있음)
+    public void incrementSmtpConnectionOpened() {
+        smtpConnectionOpenedCounter.increment();
+    }
+
+    // 발송 대기열 처리 결과 (result: sent | retry | dead)
+    public void recordEmailOutbox(String result) {
+        counter(AppConstants.Metrics.EMAIL_OUTBOX, "result", result).increment();
+    }
+
+    public void recordLogin(boolean success) {
+        (success ? loginSuccessCounter : loginFailureCounter).increment();
+    }
+
+    // 로그인 검증 시간 (사용자 조회 + 비밀번호 검증, user: found | missing)
+    public void recordLoginVerify(boolean userFound, long elapsedNanos) {
+        (userFound ? loginVerifyFoundTimer : loginVerifyMissingTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 공유 상태 저장소 오류 횟수 (operation: get | put | invalidate | publish | receive)
+    public void incrementSharedStateError(String operation) {
+        counter(AppConstants.Metrics.SHARED_STATE_ERRORS, "operation", operation).increment();
+    }
+
+    // 로그인 시도 제한으로 거절된 횟수 (key: ip | email)
+    public void incrementLoginThrottled(boolean byEmail) {
+        (byEmail ? loginThrottledEmailCounter : loginThrottledIpCounter).increment();
+    }
+
+    public void recordRefresh(boolean success) {
+        (success ? refreshSuccessCounter : refreshFailureCounter).increment();
+    }
+
+    // 이미 교체된 리프레시 토큰 재사용 감지 횟수
+    public void incrementRefreshTokenReuse() {
+        refreshReuseCounter.increment();
+    }
+
+    // 만료 토큰 정리 1회 실행 결과 (테이블별 삭제 행 수와 소요 시간, result: completed | budget-exhausted | failed)
+    public void recordCleanupRun(String table, String result, long rows, long elapsedNanos) {
+        CleanupMeters meters = cleanupMeters.computeIfAbsent(table, this::cleanupMeters);
+        meters.deleted().increment(rows);
+        meters.runRows().record(rows);
+        meters.runTimer(result).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 시간 예산이 이미 소진돼 이번 실행에서 손대지 않은 테이블 (result: skipped, 삭제 행 수 분포에는 넣지 않음)
+    public void recordCleanupSkipped(String table) {
+        cleanupMeters.computeIfAbsent(table, this::cleanupMeters).runTimer("skipped").record(0, TimeUnit.NANOSECONDS);
+    }
+
+    // Thread Pool 대기열 길이/활성 스레드 수 게이지 등록
+    public void bindExecutor(String name, ThreadPoolTaskExecutor executor) {
+        Gauge.builder(AppConstants.Metrics.EXECUTOR_QUEUE_SIZE, executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder(AppConstants.Metrics.EXECUTOR_ACTIVE, executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name)
+                .register(meterRegistry);
+    }
+
+    // 작업 거절 시 카운터를 증가시킨 뒤 기존 정책(delegate)에 위임하는 RejectedExecutionHandler
+    public RejectedExecutionHandler countingRejectionHandler(String name, RejectedExecutionHandler delegate) {
+        Counter rejected = counter(AppConstants.Metrics.EXECUTOR_REJECTED, "executor", name);
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    // 테이블별 정리 지표 (처음 기록할 때 한 번만 등록하고 재사용, 결과별 타이머도 같은 방식)
+    private CleanupMeters cleanupMeters(String table) {
+        return new CleanupMeters(
+                Counter.builder(AppConstants.Metrics.CLEANUP_DELETED)
+                        .baseUnit("rows")
+                        .tag("table", table)
+                        .register(meterRegistry),
+                DistributionSummary.builder(AppConstants.Metrics.CLEANUP_RUN_ROWS)
+                        .baseUnit("rows")
+                        .tag("table", table)
+                        .register(meterRegistry),
+                new ConcurrentHashMap<>(),
+                result -> Timer.builder(AppConstants.Metrics.CLEANUP_RUN)
+                        .tag("table", table)
+                        .tag("result", result)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name).tag(tagKey, tagValue).register(meterRegistry);
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue) {
+        return Counter.builder(name).tag(tagKey, tagValue).register(meterRegistry);
+    }
+
+    private record CleanupMeters(Counter deleted, DistributionSummary runRows,
+            Map<String, Timer> runTimers, Function<String, Timer> newRunTimer) {
+
+        private Timer runTimer(String result) {
+            return runTimers.computeIfAbsent(result, newRunTimer);
+        }
+    }
+}
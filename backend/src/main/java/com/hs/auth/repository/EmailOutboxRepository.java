@@ -0,0 +1,51 @@
+package com.hs.auth.repository;
+
+import com.hs.auth.entity.EmailOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 대상 (대기 중이고 다음 시도 시각이 지난 메일)을 오래된 순으로 배치 크기만큼 조회
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<EmailOutbox> findDue(EmailOutbox.Status status, LocalDateTime now, Limit limit);
+
+    // 발송 선점 (다른 인스턴스가 먼저 가져갔으면 0, claimUntil까지 다른 인스턴스가 가져가지 않고 지나면 다시 발송 대상)
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :claimUntil, e.attempts = e.attempts + 1 "
+            + "WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(Long id, EmailOutbox.Status status, LocalDateTime now, LocalDateTime claimUntil);
+
+    // 발송 완료 (재설정 토큰 등 본문 변수가 남지 않도록 payload 비움)
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.sentAt = :sentAt, e.payload = '', e.lastError = NULL "
+            + "WHERE e.id = :id")
+    int markSent(Long id, EmailOutbox.Status status, LocalDateTime sentAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+    int reschedule(Long id, LocalDateTime nextAttemptAt, String lastError);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.lastError = :lastError WHERE e.id = :id")
+    int markDead(Long id, EmailOutbox.Status status, String lastError);
+
+    // 정리 대상 (발송 완료/실패 확정 후 보관 기간이 지난 메일)
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status <> :pending AND e.createdAt < :cutoff "
+            + "AND MOD(e.id, :shards) = :shard ORDER BY e.createdAt")
+    List<Long> findFinishedIds(EmailOutbox.Status pending, LocalDateTime cutoff, int shards, int shard, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+}
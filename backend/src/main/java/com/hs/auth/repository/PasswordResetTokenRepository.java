@@ -1,10 +1,13 @@
 package com.hs.auth.repository;
 
 import com.hs.auth.entity.PasswordResetToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
@@ -14,5 +17,12 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     @Query("SELECT t FROM PasswordResetToken t WHERE t.token = :token AND t.expiryDate > :now AND t.usedAt IS NULL")
     Optional<PasswordResetToken> findValidToken(String token, LocalDateTime now);
 
-    void deleteByExpiryDateBeforeAndUsedAtIsNull(LocalDateTime date);
+    // 정리 대상 (사용 여부와 관계없이 보관 기간이 지난 만료 토큰) ID를 배치 크기만큼 조회 (shards개로 나눈 나머지가 shard인 행만)
+    @Query("SELECT t.id FROM PasswordResetToken t WHERE t.expiryDate < :cutoff "
+            + "AND MOD(t.id, :shards) = :shard ORDER BY t.expiryDate")
+    List<Long> findExpiredIds(LocalDateTime cutoff, int shards, int shard, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
 }
\ No newline at end of file
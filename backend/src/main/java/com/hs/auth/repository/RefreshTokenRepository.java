@@ -0,0 +1,38 @@
+package com.hs.auth.repository;
+
+import com.hs.auth.entity.RefreshToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByFamilyId(String familyId);
+
+    // 현재 jti이고 폐기/만료되지 않은 경우에만 새 jti로 교체 (동시에 같은 토큰으로 갱신하면 한 요청만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.jti = :newJti, t.expiresAt = :expiresAt, t.rotatedAt = :now "
+            + "WHERE t.jti = :jti AND t.revokedAt IS NULL AND t.expiresAt > :now")
+    int rotate(String jti, String newJti, LocalDateTime expiresAt, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(String familyId, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now WHERE t.userId = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(Long userId, LocalDateTime now);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :cutoff "
+            + "AND MOD(t.id, :shards) = :shard ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(LocalDateTime cutoff, int shards, int shard, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+}
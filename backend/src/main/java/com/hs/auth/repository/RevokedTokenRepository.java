@@ -0,0 +1,27 @@
+package com.hs.auth.repository;
+
+import com.hs.auth.entity.RevokedToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // 기동 시 전체 로드 (아직 만료되지 않은 항목)
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 증분 로드 (마지막 로드 이후 추가된 항목)
+    List<RevokedToken> findByCreatedAtAfter(LocalDateTime since);
+
+    @Query("SELECT t.id FROM RevokedToken t WHERE t.expiresAt < :cutoff "
+            + "AND MOD(t.id, :shards) = :shard ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(LocalDateTime cutoff, int shards, int shard, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.id IN :ids")
+    int deleteAllByIdIn(List<Long> ids);
+}
@@ -1,8 +1,12 @@
 package com.hs.auth.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hs.auth.dto.UserSnapshot;
 import com.hs.auth.entity.User;
 
 import java.util.Optional;
@@ -13,13 +17,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일로 사용자 찾기
     Optional<User> findByEmail(String email);
 
-    // 이메일 존재 여부 확인
-    boolean existsByEmail(String email);
-
-    // 닉네임 존재 여부 확인
-    boolean existsByNickname(String nickname);
-
-    // 전화번호 존재 여부 확인
-    boolean existsByPhoneNumber(String phoneNumber);
+    // 이메일로 사용자 스냅샷 조회 (엔티티/영속성 컨텍스트 없이 컬럼만 조회하는 단일 쿼리)
+    @Query("SELECT new com.hs.auth.dto.UserSnapshot(u.userId, u.email, u.password, u.nickname, u.name, "
+            + "u.phoneNumber, u.tokenVersion, u.createdAt, u.updatedAt) FROM User u WHERE u.email = :email")
+    Optional<UserSnapshot> findSnapshotByEmail(String email);
+
+    // ID로 사용자 스냅샷 조회 (엔티티/영속성 컨텍스트 없이 컬럼만 조회하는 단일 쿼리)
+    @Query("SELECT new com.hs.auth.dto.UserSnapshot(u.userId, u.email, u.password, u.nickname, u.name, "
+            + "u.phoneNumber, u.tokenVersion, u.createdAt, u.updatedAt) FROM User u WHERE u.userId = :userId")
+    Optional<UserSnapshot> findSnapshotById(Long userId);
+
+    // 비밀번호 해시 형식만 교체 (그 사이 비밀번호가 변경되었으면 갱신하지 않음, 토큰 버전 유지)
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.userId = :userId AND u.password = :oldHash")
+    int updatePasswordHash(Long userId, String oldHash, String newHash);
+
+    // 회원가입 중복 검증 (이메일, 닉네임, 전화번호를 한 번의 쿼리로 확인)
+    @Query("SELECT new com.hs.auth.dto.DuplicateCheckResult("
+            + "SUM(CASE WHEN u.email = :email THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN u.nickname = :nickname THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN u.phoneNumber = :phoneNumber THEN 1L ELSE 0L END)) "
+            + "FROM User u WHERE u.email = :email OR u.nickname = :nickname OR u.phoneNumber = :phoneNumber")
+    DuplicateCheckResult findDuplicates(String email, String nickname, String phoneNumber);
+
+    // 프로필 수정 중복 검증 (본인 제외, 닉네임과 전화번호를 한 번의 쿼리로 확인)
+    @Query("SELECT new com.hs.auth.dto.DuplicateCheckResult("
+            + "SUM(CASE WHEN u.nickname = :nickname THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN u.phoneNumber = :phoneNumber THEN 1L ELSE 0L END)) "
+            + "FROM User u WHERE u.userId <> :userId AND (u.nickname = :nickname OR u.phoneNumber = :phoneNumber)")
+    DuplicateCheckResult findDuplicatesExcluding(Long userId, String nickname, String phoneNumber);
 
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.hs.auth.scheduler;
+
+import com.hs.auth.entity.EmailOutbox;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.EmailOutboxRepository;
+import com.hs.auth.service.EmailOutboxService;
+import com.hs.auth.service.EmailService;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 이메일 발송 대기열 처리 (발송 대상을 배치로 가져와 한 건씩 선점한 뒤 묶음 발송, 실패 시 지수 백오프로 재시도하고 최대 횟수 초과 시 DEAD)
+// 선점은 다음 시도 시각을 미루는 조건부 UPDATE이므로 여러 인스턴스가 동시에 처리해도 같은 메일을 중복 발송하지 않고,
+// 발송 도중 인스턴스가 종료되면 선점 시간이 지난 뒤 다른 인스턴스가 다시 발송
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailService emailService;
+    private final AuthMetrics authMetrics;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration claimTimeout;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+            EmailOutboxService emailOutboxService,
+            EmailService emailService,
+            AuthMetrics authMetrics,
+            @Value("${app.email-outbox.batch-size:50}") int batchSize,
+            @Value("${app.email-outbox.max-attempts:8}") int maxAttempts,
+            @Value("${app.email-outbox.backoff-base:10s}") Duration backoffBase,
+            @Value("${app.email-outbox.backoff-max:1h}") Duration backoffMax,
+            @Value("${app.email-outbox.claim-timeout:5m}") Duration claimTimeout) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxService = emailOutboxService;
+        this.emailService = emailService;
+        this.authMetrics = authMetrics;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = backoffBase;
+        this.backoffMax = backoffMax;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${app.email-outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository.findDue(EmailOutbox.Status.PENDING, now, Limit.of(batchSize));
+
+        List<EmailOutbox> claimed = new ArrayList<>(due.size());
+        List<MimeMessage> messages = new ArrayList<>(due.size());
+        for (EmailOutbox email : due) {
+            if (!claim(email, now)) {
+                continue;
+            }
+            int attempt = email.getAttempts() + 1;
+            try {
+                Map<String, String> variables = emailOutboxService.readPayload(email);
+                Locale locale = email.getLocale() != null ? Locale.forLanguageTag(email.getLocale()) : null;
+                messages.add(emailService.prepare(email.getType(), email.getRecipient(), locale, variables));
+                claimed.add(email);
+            } catch (MailPreparationException | IllegalStateException e) {
+                // 다시 작성해도 같은 결과이므로 재시도하지 않음
+                updateStatus(email, () -> markDead(email, attempt, e));
+            } catch (RuntimeException e) {
+                // DB 오류 등 일시적일 수 있는 오류는 이 메일만 재시도로 돌리고 나머지는 계속 처리
+                updateStatus(email, () -> handleFailure(email, attempt, e));
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        // 선점한 메일을 한 번에 발송 (SMTP 연결 풀에서 연결별로 나눠 이어서 발송)
+        List<MailException> results;
+        try {
+            results = emailService.sendAll(messages);
+        } catch (RuntimeException e) {
+            // 묶음 발송 자체가 실패하면 선점한 메일 모두 재시도
+            for (EmailOutbox email : claimed) {
+                updateStatus(email, () -> handleFailure(email, email.getAttempts() + 1, e));
+            }
+            return;
+        }
+        for (int i = 0; i < claimed.size(); i++) {
+            EmailOutbox email = claimed.get(i);
+            MailException error = results.get(i);
+            updateStatus(email, () -> {
+                if (error == null) {
+                    emailOutboxRepository.markSent(email.getId(), EmailOutbox.Status.SENT, LocalDateTime.now());
+                    authMetrics.recordEmailOutbox("sent");
+                } else {
+                    handleFailure(email, email.getAttempts() + 1, error);
+                }
+            });
+        }
+    }
+
+    // 선점 실패는 다른 인스턴스가 먼저 선점했거나 (0건) DB 오류인 경우이며, 어느 쪽이든 이번 주기에는 건너뜀
+    private boolean claim(EmailOutbox email, LocalDateTime now) {
+        try {
+            return emailOutboxRepository.claim(email.getId(), EmailOutbox.Status.PENDING, now,
+                    LocalDateTime.now().plus(claimTimeout)) > 0;
+        } catch (RuntimeException e) {
+            log.warn("이메일 발송 대기열 선점 실패, 다음 주기에 재시도: id={}", email.getId(), e);
+            return false;
+        }
+    }
+
+    // 상태 갱신 실패가 나머지 메일 처리를 중단시키지 않도록 행 단위로 처리 (갱신하지 못한 메일은 선점 시간이 지난 뒤 다시 처리)
+    private void updateStatus(EmailOutbox email, Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.error("이메일 발송 대기열 상태 갱신 실패, 선점 만료 후 다시 처리: id={}", email.getId(), e);
+        }
+    }
+
+    private void handleFailure(EmailOutbox email, int attempt, Exception e) {
+        if (e instanceof MailPreparationException || attempt >= maxAttempts) {
+            markDead(email, attempt, e);
+            return;
+        }
+        Duration delay = backoff(attempt);
+        emailOutboxRepository.reschedule(email.getId(), LocalDateTime.now().plus(delay), errorMessage(e));
+        authMetrics.recordEmailOutbox("retry");
+        log.warn("이메일 발송 실패, {}초 후 재시도 ({}/{}): {} -> {}",
+                delay.toSeconds(), attempt, maxAttempts, email.getType(), email.getRecipient(), e);
+    }
+
+    private void markDead(EmailOutbox email, int attempt, Exception e) {
+        emailOutboxRepository.markDead(email.getId(), EmailOutbox.Status.DEAD, errorMessage(e));
+        authMetrics.recordEmailOutbox("dead");
+        log.error("이메일 발송 포기 ({}회 시도): {} -> {}", attempt, email.getType(), email.getRecipient(), e);
+    }
+
+    // 지수 백오프 (base * 2^(attempt-1), 최대 backoffMax) + 동시에 실패한 메일이 한꺼번에 재시도하지 않도록 최대 20% 지터
+    private Duration backoff(int attempt) {
+        long baseMillis = backoffBase.toMillis();
+        long delayMillis = baseMillis << Math.min(attempt - 1, 20);
+        if (delayMillis <= 0 || delayMillis > backoffMax.toMillis()) {
+            delayMillis = backoffMax.toMillis();
+        }
+        long jitter = ThreadLocalRandom.current().nextLong(delayMillis / 5 + 1);
+        return Duration.ofMillis(delayMillis + jitter);
+    }
+
+    private static String errorMessage(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
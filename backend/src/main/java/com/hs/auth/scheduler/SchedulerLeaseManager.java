@@ -0,0 +1,93 @@
+package com.hs.auth.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+
+// DB 기반 스케줄 작업 리스 (scheduler_leases 테이블, 여러 인스턴스 중 리스를 잡은 인스턴스만 작업 실행)
+// 시각은 각 인스턴스 시계를 사용하므로 인스턴스 간 시계 차이는 lockAtLeastFor보다 작아야 함
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final String ACQUIRE_SQL = "UPDATE scheduler_leases SET locked_until = ?, locked_at = ?, locked_by = ? "
+            + "WHERE lease_name = ? AND locked_until <= ?";
+    private static final String INSERT_SQL = "INSERT INTO scheduler_leases (lease_name, locked_until, locked_at, locked_by) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL = "UPDATE scheduler_leases SET locked_until = ? "
+            + "WHERE lease_name = ? AND locked_by = ? AND locked_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+
+    public SchedulerLeaseManager(JdbcTemplate jdbcTemplate,
+            @Value("${app.scheduler-lease.instance-id:}") String instanceId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+    }
+
+    // 리스 획득 시도 (만료된 리스를 가져오거나 처음이면 행 생성, 다른 인스턴스가 보유 중이면 빈 값)
+    public Optional<Lease> tryAcquire(String name, Duration lockAtMostFor) {
+        // DATETIME(6) 저장 시 잘리는 정밀도 때문에 해제 조건(locked_at 일치)이 어긋나지 않도록 밀리초로 맞춤
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Timestamp lockedAt = Timestamp.valueOf(now);
+        Timestamp lockedUntil = Timestamp.valueOf(now.plus(lockAtMostFor));
+
+        try {
+            int updated = jdbcTemplate.update(ACQUIRE_SQL, lockedUntil, lockedAt, instanceId, name, lockedAt);
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_SQL, name, lockedUntil, lockedAt, instanceId);
+            }
+            log.debug("리스 획득: {} (보유자: {}, 만료: {})", name, instanceId, lockedUntil);
+            return Optional.of(new Lease(name, now));
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("리스 획득 실패로 작업 건너뜀: {}", name, e);
+            return Optional.empty();
+        }
+    }
+
+    // 리스 해제 (다른 인스턴스가 같은 주기에 다시 실행하지 않도록 획득 후 lockAtLeastFor까지는 유지)
+    public void release(Lease lease, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimum = lease.lockedAt().plus(lockAtLeastFor);
+        LocalDateTime lockedUntil = minimum.isAfter(now) ? minimum : now;
+
+        try {
+            int updated = jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(lockedUntil), lease.name(), instanceId,
+                    Timestamp.valueOf(lease.lockedAt()));
+            if (updated == 0) {
+                log.warn("리스가 이미 만료되어 다른 인스턴스로 넘어감: {}", lease.name());
+            }
+        } catch (DataAccessException e) {
+            // 해제에 실패해도 lockAtMostFor가 지나면 다른 인스턴스가 가져감
+            log.warn("리스 해제 실패: {}", lease.name(), e);
+        }
+    }
+
+    private static String defaultInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public record Lease(String name, LocalDateTime lockedAt) {
+    }
+}
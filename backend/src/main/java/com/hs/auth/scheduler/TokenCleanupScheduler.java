@@ -1,32 +1,187 @@
 package com.hs.auth.scheduler;
 
+import com.hs.auth.entity.EmailOutbox;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.EmailOutboxRepository;
 import com.hs.auth.repository.PasswordResetTokenRepository;
-import lombok.RequiredArgsConstructor;
+import com.hs.auth.repository.RefreshTokenRepository;
+import com.hs.auth.repository.RevokedTokenRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 
+// 만료 토큰 정리 (배치 크기만큼 ID를 조회해 삭제하는 짧은 트랜잭션을 반복, 실행당 시간 예산을 넘기면 다음 실행으로 넘김)
+// 실행마다 정리를 시작하는 테이블을 돌려가며 바꿔, 한 테이블에 쌓인 행이 예산을 다 써도 다른 테이블이 계속 밀리지 않도록 함
+// 행을 id 나머지 기준으로 shards개로 나누고 샤드별 리스를 잡은 인스턴스만 해당 샤드를 정리 (여러 인스턴스가 같은 행을 두고 경합하지 않음)
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
+    private static final String COMPLETED = "completed";
+    private static final String BUDGET_EXHAUSTED = "budget-exhausted";
+    private static final String FAILED = "failed";
+    private static final String LEASE_PREFIX = "token-cleanup-";
+
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseManager leaseManager;
+    private final AuthMetrics authMetrics;
+    private final int batchSize;
+    private final Duration timeBudget;
+    private final Duration batchPause;
+    private final Duration passwordResetRetention;
+    private final Duration emailOutboxRetention;
+    private final int shards;
+    private final Duration lockAtLeastFor;
+    private final Duration lockAtMostFor;
+    private final AtomicInteger runs = new AtomicInteger();
+
+    public TokenCleanupScheduler(PasswordResetTokenRepository passwordResetTokenRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            RevokedTokenRepository revokedTokenRepository,
+            EmailOutboxRepository emailOutboxRepository,
+            TransactionTemplate transactionTemplate,
+            SchedulerLeaseManager leaseManager,
+            AuthMetrics authMetrics,
+            @Value("${app.cleanup.batch-size:1000}") int batchSize,
+            @Value("${app.cleanup.time-budget:30s}") Duration timeBudget,
+            @Value("${app.cleanup.batch-pause:20ms}") Duration batchPause,
+            @Value("${app.cleanup.password-reset-retention:1d}") Duration passwordResetRetention,
+            @Value("${app.email-outbox.retention:7d}") Duration emailOutboxRetention,
+            @Value("${app.cleanup.shards:1}") int shards,
+            @Value("${app.cleanup.lease.lock-at-least-for:5m}") Duration lockAtLeastFor,
+            @Value("${app.cleanup.lease.lock-at-most-for:10m}") Duration lockAtMostFor) {
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseManager = leaseManager;
+        this.authMetrics = authMetrics;
+        this.batchSize = batchSize;
+        this.timeBudget = timeBudget;
+        this.batchPause = batchPause;
+        this.passwordResetRetention = passwordResetRetention;
+        this.emailOutboxRetention = emailOutboxRetention;
+        this.shards = Math.max(1, shards);
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.lockAtMostFor = lockAtMostFor;
+    }
 
-    @Transactional
     @Scheduled(cron = "0 0 */1 * * *") // 매 시간마다 실행
     public void cleanupExpiredTokens() {
         LocalDateTime now = LocalDateTime.now();
-        log.info("만료된 비밀번호 재설정 토큰 정리 시작: {}", now);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        int firstTable = runs.getAndIncrement();
+        log.info("만료 토큰 정리 시작: {}", now);
+
+        // 인스턴스마다 시작 샤드를 달리해 동시에 실행돼도 서로 다른 샤드를 먼저 잡도록 함
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards && System.nanoTime() < deadline; i++) {
+            int shard = (start + i) % shards;
+            Optional<SchedulerLeaseManager.Lease> lease = leaseManager.tryAcquire(LEASE_PREFIX + shard, lockAtMostFor);
+            if (lease.isEmpty()) {
+                log.debug("다른 인스턴스가 정리 중인 샤드 건너뜀: {}/{}", shard, shards);
+                continue;
+            }
+            try {
+                cleanupShard(shard, now, deadline, firstTable);
+            } finally {
+                leaseManager.release(lease.get(), lockAtLeastFor);
+            }
+        }
+    }
+
+    private void cleanupShard(int shard, LocalDateTime now, long deadline, int firstTable) {
+        List<PurgeTarget> targets = List.of(
+                // 비밀번호 재설정 토큰은 사용 여부와 관계없이 만료 후 보관 기간이 지나면 삭제
+                new PurgeTarget("password_reset_tokens", now.minus(passwordResetRetention),
+                        (cutoff, limit) -> passwordResetTokenRepository.findExpiredIds(cutoff, shards, shard, limit),
+                        passwordResetTokenRepository::deleteAllByIdIn),
+                new PurgeTarget("refresh_tokens", now,
+                        (cutoff, limit) -> refreshTokenRepository.findExpiredIds(cutoff, shards, shard, limit),
+                        refreshTokenRepository::deleteAllByIdIn),
+                new PurgeTarget("revoked_tokens", now,
+                        (cutoff, limit) -> revokedTokenRepository.findExpiredIds(cutoff, shards, shard, limit),
+                        revokedTokenRepository::deleteAllByIdIn),
+                // 발송 대기열은 발송 완료/실패 확정 후 보관 기간이 지난 행만 삭제 (대기 중인 메일은 유지)
+                new PurgeTarget("email_outbox", now.minus(emailOutboxRetention),
+                        (cutoff, limit) -> emailOutboxRepository.findFinishedIds(
+                                EmailOutbox.Status.PENDING, cutoff, shards, shard, limit),
+                        emailOutboxRepository::deleteAllByIdIn));
+
+        for (int i = 0; i < targets.size(); i++) {
+            PurgeTarget target = targets.get(Math.floorMod(firstTable + i, targets.size()));
+            if (System.nanoTime() >= deadline) {
+                // 예산을 이미 다 써서 손대지 않은 테이블은 budget-exhausted와 구분해 기록
+                authMetrics.recordCleanupSkipped(target.table());
+                log.debug("{} 정리 건너뜀 (시간 예산 소진), 다음 실행에서 정리", target.table());
+                continue;
+            }
+            purge(target, deadline);
+        }
+    }
+
+    private void purge(PurgeTarget target, long deadline) {
+        String table = target.table();
+        long startedAt = System.nanoTime();
+        long deleted = 0;
+        String result = BUDGET_EXHAUSTED;
 
         try {
-            passwordResetTokenRepository.deleteByExpiryDateBeforeAndUsedAtIsNull(now);
-            log.info("만료된 비밀번호 재설정 토큰 정리 완료");
+            while (System.nanoTime() < deadline) {
+                Integer chunk = transactionTemplate.execute(status -> {
+                    List<Long> ids = target.findExpiredIds().apply(target.cutoff(), Limit.of(batchSize));
+                    return ids.isEmpty() ? 0 : target.deleteByIds().applyAsInt(ids);
+                });
+                deleted += chunk;
+                if (chunk < batchSize) {
+                    result = COMPLETED;
+                    break;
+                }
+                pauseBetweenBatches();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = FAILED;
+            log.warn("{} 정리 중단 (종료 요청): {}건 삭제", table, deleted);
         } catch (Exception e) {
-            log.error("만료된 비밀번호 재설정 토큰 정리 중 오류 발생", e);
+            result = FAILED;
+            log.error("{} 정리 중 오류 발생 ({}건 삭제 후 중단)", table, deleted, e);
         }
+
+        authMetrics.recordCleanupRun(table, result, deleted, System.nanoTime() - startedAt);
+        if (BUDGET_EXHAUSTED.equals(result)) {
+            log.warn("{} 정리 시간 예산 초과: {}건 삭제, 남은 행은 다음 실행에서 정리", table, deleted);
+        } else if (COMPLETED.equals(result)) {
+            log.info("{} 정리 완료: {}건", table, deleted);
+        }
+    }
+
+    // 배치 사이에 잠시 쉬어 다른 트랜잭션과 복제 지연에 여유를 줌
+    private void pauseBetweenBatches() throws InterruptedException {
+        if (!batchPause.isZero()) {
+            Thread.sleep(batchPause.toMillis());
+        }
+    }
+
+    private record PurgeTarget(String table, LocalDateTime cutoff,
+            BiFunction<LocalDateTime, Limit, List<Long>> findExpiredIds,
+            ToIntFunction<List<Long>> deleteByIds) {
     }
-}
\ No newline at end of file
+}
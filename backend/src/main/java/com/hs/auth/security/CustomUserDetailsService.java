@@ -1,9 +1,11 @@
 package com.hs.auth.security;
 
 import com.hs.auth.constants.AppConstants;
-import com.hs.auth.entity.User;
-import com.hs.auth.repository.UserRepository;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.service.UserQueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -15,27 +17,48 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserQueryService userQueryService;
+
+    // true이면 JWT 클레임만으로 인증 주체를 만들고 요청마다 DB를 조회하지 않음
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        UserSnapshot user = userQueryService.findSnapshotByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException(AppConstants.Messages.USER_NOT_FOUND + email));
 
         return createUserDetails(user);
     }
 
-    // userId로 사용자 정보 로드 (JWT 인증용)
+    // userId로 사용자 정보 로드 (JWT 인증용, 캐시 우선)
     public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
-        User user = userRepository.findById(userId)
+        UserSnapshot user = userQueryService.findSnapshotById(userId)
                 .orElseThrow(
                         () -> new UsernameNotFoundException(AppConstants.Messages.USER_NOT_FOUND + "ID: " + userId));
 
         return createUserDetails(user);
     }
 
+    // 검증된 JWT 클레임으로 사용자 정보 로드 (JWT 인증용)
+    public UserDetails loadUserByClaims(JwtClaims claims) throws UsernameNotFoundException {
+        if (statelessPrincipal) {
+            return createUserDetails(claims);
+        }
+        return loadUserById(claims.getUserId());
+    }
+
+    // 클레임 기반 UserDetails 생성 (DB 조회 없음, 비밀번호는 보관하지 않음)
+    private UserDetails createUserDetails(JwtClaims claims) {
+        return org.springframework.security.core.userdetails.User.builder()
+                .username(claims.getEmail())
+                .password("")
+                .authorities(AuthorityUtils.createAuthorityList(claims.getRoles()))
+                .build();
+    }
+
     // UserDetails 객체 생성 (공통 메서드)
-    private UserDetails createUserDetails(User user) {
+    private UserDetails createUserDetails(UserSnapshot user) {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
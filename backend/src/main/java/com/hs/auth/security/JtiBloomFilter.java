@@ -0,0 +1,70 @@
+package com.hs.auth.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 토큰 ID용 Bloom filter
+// 조회/추가 모두 lock-free, 항목 삭제는 불가하므로 정리 시 새 필터를 만들어 교체
+final class JtiBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final long capacity;
+
+    JtiBloomFilter(long expectedEntries, double falsePositiveRate) {
+        this.capacity = Math.max(1, expectedEntries);
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitSize = Math.max(Long.SIZE, optimalBits);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * LN2));
+        this.bits = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+    }
+
+    void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+        }
+    }
+
+    // false면 확실히 없음, true면 정확한 집합으로 재확인 필요
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    // FNV-1a 64bit
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 두 번째 해시 (MurmurHash3 fmix64), 0이 되지 않도록 홀수로 만듦
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash | 1L;
+    }
+}
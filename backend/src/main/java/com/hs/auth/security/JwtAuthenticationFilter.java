@@ -1,6 +1,5 @@
 package com.hs.auth.security;
 
-import com.hs.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,8 +23,10 @@ import com.hs.auth.constants.AppConstants;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenVersionCache tokenVersionCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,29 +35,59 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-            try {
-                // JWT에서 userId 추출
-                Long userId = jwtUtil.getUserIdFromToken(jwt);
+        if (StringUtils.hasText(jwt)) {
+            // 이미 검증된 토큰은 캐시에서, 처음 보는 토큰은 한 번의 파싱으로 검증
+            // 폐기 여부와 토큰 버전은 캐시 적중 시에도 매 요청 메모리에서 확인
+            verifiedTokenCache.getVerifiedClaims(jwt)
+                    .filter(claims -> !isRefreshToken(claims))
+                    .filter(claims -> !isRevoked(claims))
+                    .ifPresent(claims -> authenticate(request, claims));
+        }
 
-                // userId로 사용자 정보 로드
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        filterChain.doFilter(request, response);
+    }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+    // 리프레시 토큰은 같은 키로 서명되지만 Bearer 토큰으로 사용할 수 없음
+    // (ver 클레임이 없고 로그아웃 시 액세스 토큰 jti만 폐기되므로)
+    private boolean isRefreshToken(JwtClaims claims) {
+        if (claims.isRefreshToken()) {
+            log.debug("Bearer로 전달된 리프레시 토큰 거부: userId={}", claims.getUserId());
+            return true;
+        }
+        return false;
+    }
 
-                log.debug("JWT 인증 성공: userId={}", userId);
-            } catch (Exception e) {
-                log.error("JWT 인증 실패: {}", e.getMessage());
-                // 인증 실패 시 SecurityContext를 클리어하지 않고 계속 진행
-                // (다른 인증 방식이 있을 수 있으므로)
-            }
+    private boolean isRevoked(JwtClaims claims) {
+        if (tokenRevocationList.isRevoked(claims)) {
+            log.debug("폐기된 JWT 토큰: userId={}", claims.getUserId());
+            return true;
+        }
+        if (tokenVersionCache.isStale(claims)) {
+            log.debug("이전 버전의 JWT 토큰: userId={}, version={}", claims.getUserId(), claims.getTokenVersion());
+            return true;
         }
+        return false;
+    }
 
-        filterChain.doFilter(request, response);
+    private void authenticate(HttpServletRequest request, JwtClaims claims) {
+        try {
+            Long userId = claims.getUserId();
+
+            // 클레임으로 사용자 정보 로드 (stateless 모드에서는 DB 조회 없음)
+            UserDetails userDetails = userDetailsService.loadUserByClaims(claims);
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null, userDetails.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            log.debug("JWT 인증 성공: userId={}", userId);
+        } catch (Exception e) {
+            log.error("JWT 인증 실패: {}", e.getMessage());
+            // 인증 실패 시 SecurityContext를 클리어하지 않고 계속 진행
+            // (다른 인증 방식이 있을 수 있으므로)
+        }
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
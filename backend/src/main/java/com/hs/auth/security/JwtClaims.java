@@ -0,0 +1,69 @@
+package com.hs.auth.security;
+
+import com.hs.auth.constants.AppConstants;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+// 서명 검증이 끝난 JWT 클레임의 불변 뷰
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtClaims {
+
+    private final Long userId;
+    private final String email;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    // 권한 목록 (roles 클레임이 없으면 빈 목록)
+    private final List<String> roles;
+    // 리프레시 토큰 ID와 패밀리 ID (액세스 토큰은 null)
+    private final String tokenId;
+    private final String familyId;
+    // 발급 시점의 사용자 토큰 버전 (ver 클레임이 없으면 null)
+    private final Long tokenVersion;
+    // 토큰 종류 (리프레시 토큰은 refresh, 액세스 토큰은 null)
+    private final String tokenType;
+
+    // 파싱된 Claims에서 필요한 값만 추출
+    public static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.get(AppConstants.Http.USER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                toRoles(claims.get(AppConstants.Http.ROLES_CLAIM)),
+                claims.getId(),
+                claims.get(AppConstants.Http.FAMILY_ID_CLAIM, String.class),
+                claims.get(AppConstants.Http.TOKEN_VERSION_CLAIM, Long.class),
+                claims.get(AppConstants.Http.TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    // 리프레시 토큰 여부 (typ 클레임 도입 전 발급된 리프레시 토큰은 패밀리 ID로 판별)
+    public boolean isRefreshToken() {
+        return AppConstants.Http.TOKEN_TYPE_REFRESH.equals(tokenType) || familyId != null;
+    }
+
+    // 주어진 시각 기준 만료 여부
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static List<String> toRoles(Object rolesClaim) {
+        if (rolesClaim instanceof Collection<?> roles) {
+            return roles.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,362 @@
+package com.hs.auth.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.SecretJwk;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// JWT 서명 키링
+// 활성 키로 서명하고, 활성 키와 이전 키 N개로 검증 (토큰 헤더의 kid로 O(1) 조회, 키 순회 검증 없음)
+// jwt.keyring.location 이 설정되면 파일/디렉터리에서 키를 읽고 변경 시 재시작 없이 다시 로드
+// (키링 전환 전 설정(jwt.secret 또는 signing.jwk-location)의 키도 검증 키로 유지하여 전환 시 기존 토큰이 무효화되지 않음)
+// 설정되지 않으면 HS256(jwt.secret) 또는 ES256/ES384/ES512/EdDSA 단일 키로 동작
+// 비대칭 키의 공개 키는 /.well-known/jwks.json 으로 공개되어 다른 서비스가 로컬에서 검증할 수 있음
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+    public static final String HS256 = "HS256";
+    public static final String ES256 = "ES256";
+    public static final String ES384 = "ES384";
+    public static final String ES512 = "ES512";
+    public static final String EDDSA = "EdDSA";
+
+    private static final String DEFAULT_KEY_ID = "default";
+    // 디렉터리 키링의 활성 kid 파일, 파일 키링의 활성 kid 멤버
+    private static final String ACTIVE_KEY_ID = "active";
+    private static final String JWK_FILE_SUFFIX = ".json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path keyringLocation;
+    private final int maxPreviousKeys;
+    private final String legacyKeyId;
+    // 키링 전환 전 단일 키 (키링에 같은 kid가 없으면 검증 키로 추가, 키링을 쓰지 않으면 null)
+    private final JwtSigningKey preKeyringKey;
+
+    private volatile KeyRing keyRing;
+    private volatile String keyringFingerprint;
+
+    public JwtKeyProvider(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+            @Value("${jwt.signing.key-id:}") String keyId,
+            @Value("${jwt.signing.jwk-location:}") String jwkLocation,
+            @Value("${jwt.keyring.location:}") String keyringLocation,
+            @Value("${jwt.keyring.max-previous-keys:3}") int maxPreviousKeys,
+            @Value("${jwt.keyring.legacy-key-id:}") String legacyKeyId) {
+        this.keyringLocation = StringUtils.hasText(keyringLocation) ? Path.of(keyringLocation) : null;
+        this.maxPreviousKeys = maxPreviousKeys;
+        this.legacyKeyId = StringUtils.hasText(legacyKeyId) ? legacyKeyId : null;
+
+        String singleKeyId = StringUtils.hasText(keyId) ? keyId : DEFAULT_KEY_ID;
+        if (this.keyringLocation != null) {
+            this.preKeyringKey = createPreKeyringKey(secret, algorithm, singleKeyId, jwkLocation);
+            this.keyringFingerprint = fingerprint(this.keyringLocation);
+            this.keyRing = loadKeyRing(this.keyringLocation);
+        } else {
+            this.preKeyringKey = null;
+            JwtSigningKey signingKey = createSingleKey(secret, algorithm, singleKeyId, jwkLocation);
+            this.keyRing = KeyRing.of(signingKey, List.of(signingKey), this.legacyKeyId, null);
+        }
+        log.info("JWT 서명 키 설정 완료: active={}, keys={}", keyRing.active().getKeyId(), keyRing.keys().keySet());
+    }
+
+    // 현재 서명 키
+    public JwtSigningKey getSigningKey() {
+        return keyRing.active();
+    }
+
+    // kid로 검증 키 조회 (알 수 없는 kid는 서명 오류로 처리)
+    public Key resolveVerificationKey(String keyId) {
+        return keyRing.resolve(keyId);
+    }
+
+    // 공개 가능한 검증 키 목록 (JWKS 형식)
+    public Map<String, Object> getJwkSet() {
+        return keyRing.jwkSet();
+    }
+
+    // 키링 파일이 바뀌었으면 다시 로드 (변경되었으면 true)
+    // 로드에 실패하면 기존 키링을 유지하여 잘못된 파일 배포가 전체 토큰을 무효화하지 않도록 함
+    public synchronized boolean reloadIfChanged() {
+        if (keyringLocation == null) {
+            return false;
+        }
+
+        String fingerprint = fingerprint(keyringLocation);
+        if (fingerprint.equals(keyringFingerprint)) {
+            return false;
+        }
+
+        try {
+            KeyRing reloaded = loadKeyRing(keyringLocation);
+            keyRing = reloaded;
+            keyringFingerprint = fingerprint;
+            log.info("JWT 키링 다시 로드 완료: active={}, keys={}", reloaded.active().getKeyId(),
+                    reloaded.keys().keySet());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("JWT 키링 로드 실패, 기존 키링 유지: {}", keyringLocation, e);
+            return false;
+        }
+    }
+
+    // 키링 로드 (디렉터리: *.json JWK 파일 + active 파일, 파일: {"active": kid, "keys": [JWK...]})
+    private KeyRing loadKeyRing(Path location) {
+        List<JwtSigningKey> keys = new ArrayList<>();
+        String activeKeyId;
+
+        if (Files.isDirectory(location)) {
+            for (Path file : listJwkFiles(location)) {
+                keys.add(parseJwk(readString(file), stripSuffix(file), file.toString()));
+            }
+            Path activeFile = location.resolve(ACTIVE_KEY_ID);
+            activeKeyId = Files.exists(activeFile) ? readString(activeFile).trim() : null;
+        } else {
+            JsonNode root = readTree(location);
+            for (JsonNode node : root.path("keys")) {
+                keys.add(parseJwk(node.toString(), null, location.toString()));
+            }
+            activeKeyId = root.hasNonNull(ACTIVE_KEY_ID) ? root.get(ACTIVE_KEY_ID).asText() : null;
+        }
+
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("JWT 키링에 키가 없습니다: " + location);
+        }
+
+        // 활성 kid가 없으면 첫 번째 키 (디렉터리는 가장 최근에 수정된 파일)
+        String activeId = activeKeyId != null ? activeKeyId : keys.get(0).getKeyId();
+        JwtSigningKey active = keys.stream()
+                .filter(key -> key.getKeyId().equals(activeId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("활성 키를 키링에서 찾을 수 없습니다: " + activeId));
+
+        List<JwtSigningKey> verificationKeys = new ArrayList<>();
+        verificationKeys.add(active);
+        keys.stream()
+                .filter(key -> key != active)
+                .limit(maxPreviousKeys)
+                .forEach(verificationKeys::add);
+        if (keys.size() > verificationKeys.size()) {
+            log.warn("JWT 키링의 이전 키가 최대 개수({})를 초과하여 일부 키는 검증에 사용하지 않습니다.", maxPreviousKeys);
+        }
+
+        // 키링 전환 전에 발급된 토큰 검증용 (키링에 같은 kid가 있으면 키링의 키 우선, 이전 키 개수 제한에 포함하지 않음)
+        if (preKeyringKey != null && keys.stream().noneMatch(key -> key.getKeyId().equals(preKeyringKey.getKeyId()))) {
+            verificationKeys.add(preKeyringKey);
+        }
+
+        return KeyRing.of(active, verificationKeys, legacyKeyId, preKeyringKey);
+    }
+
+    // 키링 전환 전 단일 키 (jwk-location 또는 jwt.secret, 임시 키는 재시작 시 사라지므로 제외)
+    // jwt.secret을 비우면 제외 (전환 전 토큰이 모두 만료된 뒤)
+    private static JwtSigningKey createPreKeyringKey(String secret, String algorithm, String kid, String jwkLocation) {
+        if (!StringUtils.hasText(jwkLocation) && !(HS256.equals(algorithm) && StringUtils.hasText(secret))) {
+            return null;
+        }
+        JwtSigningKey key = createSingleKey(secret, algorithm, kid, jwkLocation);
+        log.info("키링 전환 전 JWT 키를 검증 키로 유지: kid={}", key.getKeyId());
+        return key;
+    }
+
+    // 설정된 단일 키 생성 (키링을 사용하지 않는 경우)
+    private static JwtSigningKey createSingleKey(String secret, String algorithm, String kid, String jwkLocation) {
+        if (StringUtils.hasText(jwkLocation)) {
+            Path path = Path.of(jwkLocation);
+            return parseJwk(readString(path), kid, path.toString());
+        }
+        if (HS256.equals(algorithm)) {
+            return JwtSigningKey.hmac(kid, Keys.hmacShaKeyFor(secret.getBytes()));
+        }
+        return generateKeyPair(algorithm, kid);
+    }
+
+    // JWK(JSON)를 서명 키로 변환 (비대칭 키는 개인 키 JWK, HMAC은 oct JWK)
+    private static JwtSigningKey parseJwk(String json, String defaultKeyId, String source) {
+        Jwk<?> jwk = Jwks.parser().build().parse(json);
+        String kid = StringUtils.hasText(jwk.getId()) ? jwk.getId() : defaultKeyId;
+        if (!StringUtils.hasText(kid)) {
+            throw new IllegalStateException("kid가 없는 JWK입니다: " + source);
+        }
+
+        if (jwk instanceof PrivateJwk<?, ?, ?> privateJwk) {
+            PublicKey publicKey = privateJwk.toPublicJwk().toKey();
+            String algorithm = StringUtils.hasText(jwk.getAlgorithm())
+                    ? jwk.getAlgorithm()
+                    : inferAlgorithm(publicKey);
+            return JwtSigningKey.asymmetric(kid, algorithm, privateJwk.toKey(), publicKey);
+        }
+        if (jwk instanceof SecretJwk secretJwk) {
+            return JwtSigningKey.hmac(kid, secretJwk.toKey());
+        }
+        throw new IllegalStateException("서명에 사용할 수 없는 JWK입니다 (개인 키 또는 비밀 키 필요): " + source);
+    }
+
+    // alg 파라미터가 없는 JWK는 키 종류로 알고리즘 결정 (EC는 곡선 크기로 P-256/P-384/P-521 구분)
+    private static String inferAlgorithm(PublicKey publicKey) {
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            int fieldSize = ecPublicKey.getParams().getCurve().getField().getFieldSize();
+            return switch (fieldSize) {
+                case 256 -> ES256;
+                case 384 -> ES384;
+                case 521 -> ES512;
+                default -> throw new IllegalStateException("지원하지 않는 EC 곡선입니다: " + fieldSize + "bit");
+            };
+        }
+        return switch (publicKey.getAlgorithm()) {
+            case "EdDSA", "Ed25519" -> EDDSA;
+            default -> throw new IllegalStateException("지원하지 않는 키 종류입니다: " + publicKey.getAlgorithm());
+        };
+    }
+
+    // 설정된 키 파일이 없으면 임시 키 쌍 생성 (재시작/다중 인스턴스 간 공유되지 않으므로 개발용)
+    private static JwtSigningKey generateKeyPair(String algorithm, String kid) {
+        KeyPair keyPair = switch (algorithm) {
+            case ES256 -> Jwts.SIG.ES256.keyPair().build();
+            case ES384 -> Jwts.SIG.ES384.keyPair().build();
+            case ES512 -> Jwts.SIG.ES512.keyPair().build();
+            case EDDSA -> Jwks.CRV.Ed25519.keyPair().build();
+            default -> throw new IllegalArgumentException("지원하지 않는 JWT 서명 알고리즘입니다: " + algorithm);
+        };
+        log.warn("jwt.signing.jwk-location이 설정되지 않아 임시 {} 키 쌍을 생성했습니다. 재시작 시 발급된 토큰은 무효화됩니다.",
+                algorithm);
+        return JwtSigningKey.asymmetric(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+    }
+
+    // 변경 감지용 지문 (파일 이름, 크기, 수정 시각)
+    private static String fingerprint(Path location) {
+        try {
+            if (!Files.isDirectory(location)) {
+                return Files.size(location) + ":" + Files.getLastModifiedTime(location).toMillis();
+            }
+            StringBuilder fingerprint = new StringBuilder();
+            try (Stream<Path> files = Files.list(location)) {
+                for (Path file : files.sorted().toList()) {
+                    fingerprint.append(file.getFileName()).append(':')
+                            .append(Files.size(file)).append(':')
+                            .append(Files.getLastModifiedTime(file).toMillis()).append(';');
+                }
+            }
+            return fingerprint.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 키링을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    // 가장 최근에 수정된 JWK 파일부터 정렬
+    private static List<Path> listJwkFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(JWK_FILE_SUFFIX))
+                    .sorted(Comparator.comparingLong(JwtKeyProvider::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 키링 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String stripSuffix(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - JWK_FILE_SUFFIX.length());
+    }
+
+    private static String readString(Path path) {
+        try {
+            return Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 서명 키 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private static JsonNode readTree(Path path) {
+        try {
+            return OBJECT_MAPPER.readTree(readString(path));
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키링 파일 형식이 올바르지 않습니다: " + path, e);
+        }
+    }
+
+    // 키링 스냅샷 (불변, 다시 로드 시 통째로 교체)
+    private record KeyRing(JwtSigningKey active, Map<String, JwtSigningKey> keys, Key legacyKey,
+            Map<String, Object> jwkSet) {
+
+        static KeyRing of(JwtSigningKey active, List<JwtSigningKey> verificationKeys, String legacyKeyId,
+                JwtSigningKey preKeyringKey) {
+            Map<String, JwtSigningKey> keys = new HashMap<>();
+            List<Map<String, Object>> publicJwks = new ArrayList<>();
+            for (JwtSigningKey key : verificationKeys) {
+                keys.put(key.getKeyId(), key);
+                if (key.isAsymmetric()) {
+                    publicJwks.add(key.getPublicJwk());
+                }
+            }
+
+            // kid가 없는 기존 토큰 (kid 도입 전 jwt.secret으로 발급): legacy-key-id로 지정한 키
+            // 지정하지 않으면 키링 전환 전 HMAC 키, 없으면 활성 키가 HMAC일 때만 활성 키로 검증
+            JwtSigningKey legacy;
+            if (legacyKeyId != null) {
+                legacy = keys.get(legacyKeyId);
+                if (legacy == null) {
+                    throw new IllegalStateException("jwt.keyring.legacy-key-id에 해당하는 검증 키가 없습니다: " + legacyKeyId
+                            + " (키링 또는 jwt.signing.key-id의 kid 지정 필요)");
+                }
+            } else if (preKeyringKey != null && !preKeyringKey.isAsymmetric()) {
+                legacy = preKeyringKey;
+            } else {
+                legacy = active.isAsymmetric() ? null : active;
+            }
+
+            Map<String, Object> jwkSet = new LinkedHashMap<>();
+            jwkSet.put("keys", List.copyOf(publicJwks));
+            return new KeyRing(active, Map.copyOf(keys),
+                    legacy != null ? legacy.getVerificationKey() : null, Map.copyOf(jwkSet));
+        }
+
+        Key resolve(String keyId) {
+            if (keyId == null) {
+                if (legacyKey == null) {
+                    throw new SignatureException("kid가 없는 토큰은 검증할 수 없습니다.");
+                }
+                return legacyKey;
+            }
+            JwtSigningKey key = keys.get(keyId);
+            if (key == null) {
+                throw new SignatureException("알 수 없는 서명 키입니다: " + keyId);
+            }
+            return key.getVerificationKey();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hs.auth.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// JWT 키링 파일 변경 감지 및 다시 로드
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyRingReloader {
+
+    private final JwtKeyProvider keyProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @Scheduled(fixedDelayString = "${jwt.keyring.reload-interval-ms:30000}")
+    public void reload() {
+        if (keyProvider.reloadIfChanged()) {
+            // 키링에서 제거된 키로 서명된 토큰이 캐시에 남지 않도록 검증 캐시를 비움
+            verifiedTokenCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.hs.auth.security;
+
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// JWT 서명/검증 키 (kid 단위, 불변)
+// HMAC 키는 서명과 검증에 같은 비밀 키를 쓰며 JWKS로 공개하지 않음
+@Getter
+@ToString(of = { "keyId", "algorithm" })
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwtSigningKey {
+
+    private static final String SIGNATURE_USE = "sig";
+
+    private final String keyId;
+    private final String algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+    // 공개 JWK (HMAC 키는 null)
+    private final Map<String, Object> publicJwk;
+
+    // HMAC 비밀 키 (알고리즘은 JCA 이름이 아닌 JWA 이름으로 보관)
+    public static JwtSigningKey hmac(String keyId, SecretKey secretKey) {
+        return new JwtSigningKey(keyId, hmacAlgorithm(secretKey), secretKey, secretKey, null);
+    }
+
+    // 비대칭 키 쌍 (ES256/ES384/ES512, EdDSA 등)
+    public static JwtSigningKey asymmetric(String keyId, String algorithm, PrivateKey privateKey,
+            PublicKey publicKey) {
+        PublicJwk<PublicKey> jwk = Jwks.builder()
+                .key(publicKey)
+                .id(keyId)
+                .algorithm(algorithm)
+                .publicKeyUse(SIGNATURE_USE)
+                .build();
+        return new JwtSigningKey(keyId, algorithm, privateKey, publicKey, new LinkedHashMap<>(jwk));
+    }
+
+    public boolean isAsymmetric() {
+        return publicJwk != null;
+    }
+
+    // HmacSHA256 -> HS256 (키 길이에 따라 jjwt가 선택하는 알고리즘과 같음)
+    private static String hmacAlgorithm(SecretKey secretKey) {
+        return switch (secretKey.getAlgorithm()) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> secretKey.getAlgorithm();
+        };
+    }
+}
@@ -0,0 +1,189 @@
+package com.hs.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hs.auth.common.exception.TooManyRequestsException;
+import com.hs.auth.metrics.AuthMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 로그인 시도 빈도 제한 및 잠금 (IP, 이메일 키)
+// 비밀번호 검증(BCrypt) 전에 거절하여 무차별 대입 공격이 해싱 CPU를 소모하지 못하도록 함
+// - 슬라이딩 윈도우 (IP, 이메일): 직전 윈도우 횟수를 경과 비율만큼 가중하여 현재 윈도우 횟수와 합산
+// - 잠금 (이메일만): 연속 실패가 임계값에 도달하면 실패할 때마다 잠금 시간을 2배로 늘림 (최대값 제한)
+//   IP는 NAT/사무실처럼 여러 사용자가 공유할 수 있어 누적 실패로 잠그지 않고 윈도우 한도로만 제한
+// 키별 상태는 불변 객체를 CAS로 교체하여 lock-free로 갱신하고,
+// 키 저장소는 크기 제한과 만료가 있는 Caffeine 캐시 (내부적으로 분할 잠금)로 메모리 사용량을 고정
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final String IP = "ip";
+    private static final String EMAIL = "email";
+    // 잠금 시간 배수 상한 (2^20), 오버플로 방지
+    private static final int MAX_LOCKOUT_SHIFT = 20;
+
+    private final AuthMetrics authMetrics;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int ipMaxAttempts;
+    private final int emailMaxAttempts;
+    private final int lockoutThreshold;
+    private final long lockoutBaseMillis;
+    private final long lockoutMaxMillis;
+    private final Cache<String, AtomicReference<AttemptWindow>> byIp;
+    private final Cache<String, AtomicReference<AttemptWindow>> byEmail;
+
+    public LoginRateLimiter(AuthMetrics authMetrics, MeterRegistry meterRegistry,
+            @Value("${app.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.login-rate-limit.window:1m}") Duration window,
+            @Value("${app.login-rate-limit.ip-max-attempts:30}") int ipMaxAttempts,
+            @Value("${app.login-rate-limit.email-max-attempts:10}") int emailMaxAttempts,
+            @Value("${app.login-rate-limit.lockout-threshold:5}") int lockoutThreshold,
+            @Value("${app.login-rate-limit.lockout-base:30s}") Duration lockoutBase,
+            @Value("${app.login-rate-limit.lockout-max:15m}") Duration lockoutMax,
+            @Value("${app.login-rate-limit.maximum-size:100000}") long maximumSize) {
+        this.authMetrics = authMetrics;
+        this.enabled = enabled;
+        this.windowMillis = window.toMillis();
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.emailMaxAttempts = emailMaxAttempts;
+        this.lockoutThreshold = lockoutThreshold;
+        this.lockoutBaseMillis = lockoutBase.toMillis();
+        this.lockoutMaxMillis = lockoutMax.toMillis();
+
+        // 윈도우 2개 또는 최대 잠금 시간 동안 시도가 없으면 상태를 버림
+        Duration idle = Duration.ofMillis(Math.max(windowMillis * 2, lockoutMaxMillis));
+        this.byIp = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idle)
+                .recordStats()
+                .build();
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idle)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byIp, "login-attempts.by-ip");
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "login-attempts.by-email");
+    }
+
+    // 로그인 시도 허용 여부 확인 및 시도 횟수 기록 (거절 시 TooManyRequestsException)
+    public void checkAllowed(String clientIp, String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        acquire(byIp, clientIp, ipMaxAttempts, IP, now);
+        acquire(byEmail, normalize(email), emailMaxAttempts, EMAIL, now);
+    }
+
+    // 로그인 실패 기록 (이메일의 연속 실패가 임계값을 넘으면 잠금)
+    public void recordFailure(String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        state(byEmail, normalize(email), now).updateAndGet(window -> window.roll(now, windowMillis).fail(now, this));
+    }
+
+    // 로그인 성공 시 이메일의 연속 실패 초기화 (IP는 시도 횟수만 세므로 초기화할 실패 기록이 없음)
+    public void recordSuccess(String email) {
+        if (!enabled) {
+            return;
+        }
+        AtomicReference<AttemptWindow> state = byEmail.getIfPresent(normalize(email));
+        if (state != null) {
+            state.updateAndGet(AttemptWindow::succeed);
+        }
+    }
+
+    private void acquire(Cache<String, AtomicReference<AttemptWindow>> states, String key, int maxAttempts,
+            String keyType, long now) {
+        AtomicReference<AttemptWindow> state = state(states, key, now);
+        while (true) {
+            AttemptWindow current = state.get();
+            AttemptWindow rolled = current.roll(now, windowMillis);
+
+            long retryAfterMillis = rolled.retryAfterMillis(now, windowMillis, maxAttempts);
+            if (retryAfterMillis > 0) {
+                authMetrics.incrementLoginThrottled(EMAIL.equals(keyType));
+                log.warn("로그인 시도 제한: {}={}, {}ms 후 재시도 가능", keyType, key, retryAfterMillis);
+                throw TooManyRequestsException.loginThrottled(Duration.ofMillis(retryAfterMillis));
+            }
+
+            if (state.compareAndSet(current, rolled.attempt())) {
+                return;
+            }
+        }
+    }
+
+    private static AtomicReference<AttemptWindow> state(Cache<String, AtomicReference<AttemptWindow>> states,
+            String key, long now) {
+        return states.get(key, k -> new AtomicReference<>(AttemptWindow.start(now)));
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 실패 횟수에 따른 잠금 시간 (임계값부터 2배씩 증가)
+    private long lockoutMillis(int failures) {
+        int shift = Math.min(failures - lockoutThreshold, MAX_LOCKOUT_SHIFT);
+        return Math.min(lockoutMaxMillis, lockoutBaseMillis << shift);
+    }
+
+    // 키별 시도 상태 (불변)
+    private record AttemptWindow(long windowStart, int current, int previous, int failures, long lockedUntil) {
+
+        static AttemptWindow start(long now) {
+            return new AttemptWindow(now, 0, 0, 0, 0L);
+        }
+
+        // 현재 시각이 속한 윈도우로 이동
+        AttemptWindow roll(long now, long windowMillis) {
+            long elapsedWindows = (now - windowStart) / windowMillis;
+            if (elapsedWindows <= 0) {
+                return this;
+            }
+            long start = windowStart + elapsedWindows * windowMillis;
+            int carried = elapsedWindows == 1 ? current : 0;
+            return new AttemptWindow(start, 0, carried, failures, lockedUntil);
+        }
+
+        // 잠금 중이거나 슬라이딩 윈도우 추정 횟수가 한도에 도달하면 남은 대기 시간, 아니면 0
+        long retryAfterMillis(long now, long windowMillis, int maxAttempts) {
+            if (lockedUntil > now) {
+                return lockedUntil - now;
+            }
+            long elapsed = now - windowStart;
+            double weight = 1.0 - (double) elapsed / windowMillis;
+            if (previous * weight + current >= maxAttempts) {
+                return windowMillis - elapsed;
+            }
+            return 0L;
+        }
+
+        AttemptWindow attempt() {
+            return new AttemptWindow(windowStart, current + 1, previous, failures, lockedUntil);
+        }
+
+        AttemptWindow fail(long now, LoginRateLimiter limiter) {
+            int failed = failures + 1;
+            long locked = failed >= limiter.lockoutThreshold ? now + limiter.lockoutMillis(failed) : lockedUntil;
+            return new AttemptWindow(windowStart, current, previous, failed, locked);
+        }
+
+        AttemptWindow succeed() {
+            return new AttemptWindow(windowStart, current, previous, 0, 0L);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hs.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+// 현재 하드웨어에서 목표 지연 시간에 맞는 해싱 비용 산정
+// 설정된 비용을 하한으로 측정하고, 목표 시간까지 여유가 있으면 비용을 올림 (하한 아래로는 내리지 않음)
+@Slf4j
+public final class PasswordEncoderCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    // JIT 워밍업 후 최솟값 사용
+    private static final int SAMPLES = 3;
+
+    private PasswordEncoderCalibrator() {
+    }
+
+    // BCrypt: strength가 1 오를 때마다 비용 2배
+    public static int calibrateBcryptStrength(int minStrength, int maxStrength, Duration target,
+            IntFunction<PasswordEncoder> factory) {
+        long measured = measureNanos(factory.apply(minStrength));
+        int strength = minStrength;
+        while (strength < maxStrength && measured * 2 <= target.toNanos()) {
+            measured *= 2;
+            strength++;
+        }
+        log.info("BCrypt strength 산정: {} (예상 {}ms, 목표 {}ms)", strength, measured / 1_000_000, target.toMillis());
+        return strength;
+    }
+
+    // Argon2/PBKDF2: 반복 횟수에 비례하여 비용 증가
+    public static int calibrateIterations(String algorithm, int minIterations, int maxIterations, Duration target,
+            IntFunction<PasswordEncoder> factory) {
+        long measured = measureNanos(factory.apply(minIterations));
+        long scaled = measured > 0 ? minIterations * target.toNanos() / measured : minIterations;
+        int iterations = (int) Math.max(minIterations, Math.min(maxIterations, scaled));
+        log.info("{} iterations 산정: {} (하한 {}에서 {}ms, 목표 {}ms)", algorithm, iterations, minIterations,
+                measured / 1_000_000, target.toMillis());
+        return iterations;
+    }
+
+    private static long measureNanos(PasswordEncoder encoder) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hs.auth.security;
+
+import com.hs.auth.common.exception.ServiceUnavailableException;
+import com.hs.auth.metrics.AuthMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 비밀번호 해싱/검증을 전용 스레드 풀에서 실행
+// 동시 해싱 수를 CPU 코어 수로 제한하고, 대기열이 가득 차면 즉시 503으로 거절하여
+// 로그인 폭주가 요청 스레드 전체를 점유하지 않도록 함
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    // 접두사 없이 저장된 기존 해시의 형식 (DelegatingPasswordEncoder 기본 검증기)
+    private static final String LEGACY_PREFIX = "{bcrypt}";
+    private static final String BCRYPT_HASH_PREFIX = "$2";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final AuthMetrics authMetrics;
+    private final Duration timeout;
+    private final int upgradeMaxQueued;
+    // 존재하지 않는 사용자 검증용 해시 (실제 해시와 같은 비용으로 미리 생성)
+    private final String dummyHash;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            AuthMetrics authMetrics,
+            @Value("${app.password-hash.timeout:5s}") Duration timeout,
+            @Value("${app.password-hash.upgrade-max-queued:10}") int upgradeMaxQueued) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.authMetrics = authMetrics;
+        this.timeout = timeout;
+        this.upgradeMaxQueued = upgradeMaxQueued;
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    // 비밀번호 해싱
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> authMetrics.recordPasswordEncode(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // 로그인 후 해시 갱신용 해싱을 제출만 하고 기다리지 않음
+    // 대기열에 upgradeMaxQueued개 이상 쌓여 있으면 제출하지 않고 실패한 future 반환 (남은 대기열은 로그인 검증용으로 남겨 둠)
+    public CompletableFuture<String> encodeForUpgrade(CharSequence rawPassword) {
+        if (passwordHashExecutor.getThreadPoolExecutor().getQueue().size() >= upgradeMaxQueued) {
+            authMetrics.incrementPasswordHashRejected(true);
+            return CompletableFuture.failedFuture(new TaskRejectedException("비밀번호 해싱 대기열 여유 없음"));
+        }
+        try {
+            return passwordHashExecutor.submitCompletable(
+                    () -> authMetrics.recordPasswordEncode(() -> passwordEncoder.encode(rawPassword)));
+        } catch (TaskRejectedException e) {
+            authMetrics.incrementPasswordHashRejected(true);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 비밀번호 검증
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> authMetrics.recordPasswordMatches(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시가 현재 알고리즘/비용 설정과 다르면 true (해싱 없이 형식만 확인)
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // 접두사 없는 기존 BCrypt 해시가 접두사만 붙이면 현재 설정과 같아지는 경우 그 값 (해싱 불필요)
+    public Optional<String> prefixLegacyHash(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(BCRYPT_HASH_PREFIX)) {
+            return Optional.empty();
+        }
+        String prefixed = LEGACY_PREFIX + encodedPassword;
+        return passwordEncoder.upgradeEncoding(prefixed) ? Optional.empty() : Optional.of(prefixed);
+    }
+
+    // 존재하지 않는 사용자에 대해 실제 검증과 같은 비용을 소모 (결과는 항상 false)
+    // 응답 시간으로 가입 여부를 구분할 수 없도록 함
+    public boolean matchesDummy(CharSequence rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            authMetrics.incrementPasswordHashRejected(false);
+            log.warn("비밀번호 해싱 대기열 포화로 요청 거절");
+            throw ServiceUnavailableException.busy(e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해싱 대기 시간 초과: {}ms", timeout.toMillis());
+            throw ServiceUnavailableException.busy(e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.busy(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류 발생", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.hs.auth.security;
+
+import com.hs.auth.cache.SharedStateStore;
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.entity.RevokedToken;
+import com.hs.auth.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 액세스 토큰 목록 (요청당 DB 조회 없이 메모리에서 확인)
+// jti: Bloom filter로 대부분의 토큰을 즉시 통과시키고, 양성일 때만 정확한 집합으로 확인
+// 사용자 단위: 사용자별 발급 시각 기준 (이 시각(초 단위) 이전에 발급된 토큰 거부)
+// 새 폐기 항목은 공유 상태 저장소 채널로 즉시 전파하고, revoked_tokens 테이블에서 주기적으로 증분 로드하여
+// 메시지가 유실되어도 수렴 (만료된 항목은 정리)
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    // 인스턴스 간 시계 차이와 커밋 지연을 고려한 증분 로드 겹침 구간 (중복 반영은 무해)
+    private static final Duration RELOAD_OVERLAP = Duration.ofSeconds(30);
+    private static final String REVOCATION_CHANNEL = "token-revocation";
+    private static final String TOKEN_ENTRY = "token";
+    private static final String USER_ENTRY = "user";
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final SharedStateStore sharedStateStore;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    // jti -> 토큰 만료 시각
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+    // userId -> 사용자 단위 폐기
+    private final Map<Long, UserRevocation> userRevocations = new ConcurrentHashMap<>();
+    private volatile JtiBloomFilter bloomFilter;
+    private LocalDateTime lastLoadedAt;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+            SharedStateStore sharedStateStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.revocation.expected-entries:100000}") long expectedEntries,
+            @Value("${app.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.sharedStateStore = sharedStateStore;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new JtiBloomFilter(expectedEntries, falsePositiveRate);
+
+        Gauge.builder(AppConstants.Metrics.REVOCATION_ENTRIES, revokedTokenIds, Map::size)
+                .tag("type", "token")
+                .register(meterRegistry);
+        Gauge.builder(AppConstants.Metrics.REVOCATION_ENTRIES, userRevocations, Map::size)
+                .tag("type", "user")
+                .register(meterRegistry);
+
+        sharedStateStore.subscribe(REVOCATION_CHANNEL, this::onRevocation);
+    }
+
+    // 폐기된 토큰인지 확인 (lock-free, 해시 조회 최대 2회)
+    public boolean isRevoked(JwtClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (tokenId != null && bloomFilter.mightContain(tokenId) && revokedTokenIds.containsKey(tokenId)) {
+            return true;
+        }
+
+        UserRevocation userRevocation = userRevocations.get(claims.getUserId());
+        // 기준 시각은 초 단위로 내려 저장되므로 폐기와 같은 초에 발급된 토큰은 통과
+        // (전체 로그아웃 직후 재로그인한 토큰이 즉시 거부되지 않도록 함, 같은 초의 이전 토큰은 ver로 거부)
+        return userRevocation != null && claims.getIssuedAt() != null
+                && claims.getIssuedAt().isBefore(userRevocation.issuedBefore());
+    }
+
+    // 저장된 폐기 항목을 반영하고 다른 인스턴스에 전파
+    // 메시지: token:<jti>:<만료 epoch ms> 또는 user:<userId>:<발급 기준 epoch ms>:<만료 epoch ms>
+    public void revoke(RevokedToken entry) {
+        apply(entry);
+
+        Instant expiresAt = toInstant(entry.getExpiresAt());
+        String message = entry.isUserWide()
+                ? String.join(":", USER_ENTRY, entry.getUserId().toString(),
+                        Long.toString(toInstant(entry.getIssuedBefore()).toEpochMilli()),
+                        Long.toString(expiresAt.toEpochMilli()))
+                : String.join(":", TOKEN_ENTRY, entry.getJti(), Long.toString(expiresAt.toEpochMilli()));
+        sharedStateStore.publish(REVOCATION_CHANNEL, message);
+    }
+
+    // 폐기 항목 반영
+    public void apply(RevokedToken entry) {
+        Instant expiresAt = toInstant(entry.getExpiresAt());
+        if (entry.isUserWide()) {
+            applyUser(entry.getUserId(), toInstant(entry.getIssuedBefore()), expiresAt);
+        } else {
+            applyToken(entry.getJti(), expiresAt);
+        }
+    }
+
+    // 변경은 드물므로 동기화하여 필터 교체와 경합하지 않도록 함
+    private synchronized void applyToken(String tokenId, Instant expiresAt) {
+        if (revokedTokenIds.put(tokenId, expiresAt) == null) {
+            bloomFilter.put(tokenId);
+        }
+        if (revokedTokenIds.size() > bloomFilter.capacity()) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void applyUser(Long userId, Instant issuedBefore, Instant expiresAt) {
+        userRevocations.merge(userId, new UserRevocation(issuedBefore, expiresAt), UserRevocation::latest);
+    }
+
+    private void onRevocation(String message) {
+        String[] parts = message.split(":");
+        if (USER_ENTRY.equals(parts[0])) {
+            applyUser(Long.valueOf(parts[1]), Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3])));
+        } else {
+            applyToken(parts[1], Instant.ofEpochMilli(Long.parseLong(parts[2])));
+        }
+    }
+
+    // 다른 인스턴스에서 추가된 폐기 항목 증분 로드 및 만료 항목 정리
+    @Scheduled(fixedDelayString = "${app.revocation.reload-interval-ms:5000}")
+    public synchronized void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<RevokedToken> entries = lastLoadedAt == null
+                    ? revokedTokenRepository.findByExpiresAtAfter(now)
+                    : revokedTokenRepository.findByCreatedAtAfter(lastLoadedAt.minus(RELOAD_OVERLAP));
+            entries.forEach(this::apply);
+            lastLoadedAt = now;
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 목록 로드 실패, 다음 주기에 재시도", e);
+        }
+
+        prune(Instant.now());
+    }
+
+    // 만료된 항목 제거 (Bloom filter는 삭제가 불가하므로 남은 항목으로 다시 생성)
+    private void prune(Instant now) {
+        boolean removed = revokedTokenIds.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        userRevocations.values().removeIf(revocation -> !revocation.expiresAt().isAfter(now));
+        if (removed) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        long capacity = Math.max(expectedEntries, revokedTokenIds.size() * 2L);
+        JtiBloomFilter rebuilt = new JtiBloomFilter(capacity, falsePositiveRate);
+        revokedTokenIds.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        log.debug("토큰 폐기 Bloom filter 재생성: entries={}, capacity={}", revokedTokenIds.size(), capacity);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private record UserRevocation(Instant issuedBefore, Instant expiresAt) {
+
+        static UserRevocation latest(UserRevocation a, UserRevocation b) {
+            return new UserRevocation(
+                    a.issuedBefore().isAfter(b.issuedBefore()) ? a.issuedBefore() : b.issuedBefore(),
+                    a.expiresAt().isAfter(b.expiresAt()) ? a.expiresAt() : b.expiresAt());
+        }
+    }
+}
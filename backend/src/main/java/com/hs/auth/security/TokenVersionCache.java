@@ -0,0 +1,115 @@
+package com.hs.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hs.auth.cache.SharedStateStore;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.service.UserQueryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 사용자별 현재 토큰 버전 캐시 (userId -> tokenVersion)
+// 토큰의 ver 클레임이 현재 버전보다 낮으면 비밀번호 변경 이전에 발급된 토큰으로 보고 거부
+// 변경 시 커밋 후 새 버전으로 갱신하므로 정상 상태에서는 요청당 DB 조회가 없음
+// 새 버전은 공유 상태 저장소에 기록하고 채널로 전파하여 다른 인스턴스도 즉시 반영
+@Slf4j
+@Component
+public class TokenVersionCache {
+
+    // 사용자가 없으면 모든 토큰을 거부하도록 사용하는 버전
+    private static final long MISSING_USER_VERSION = Long.MAX_VALUE;
+    private static final String KEY_PREFIX = "token-version:";
+    private static final String UPDATE_CHANNEL = "token-version.update";
+
+    private final UserQueryService userQueryService;
+    private final SharedStateStore sharedStateStore;
+    private final Cache<Long, Long> versions;
+    private final Duration ttl;
+
+    public TokenVersionCache(UserQueryService userQueryService, SharedStateStore sharedStateStore,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.token-version.maximum-size:100000}") long maximumSize,
+            @Value("${app.cache.token-version.ttl:30m}") Duration ttl) {
+        this.userQueryService = userQueryService;
+        this.sharedStateStore = sharedStateStore;
+        this.ttl = ttl;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "users.token-version");
+
+        sharedStateStore.subscribe(UPDATE_CHANNEL, this::onUpdate);
+    }
+
+    // 토큰 버전이 현재 버전보다 낮으면 true (ver 클레임이 없는 기존 토큰은 검사하지 않음)
+    public boolean isStale(JwtClaims claims) {
+        Long tokenVersion = claims.getTokenVersion();
+        if (tokenVersion == null) {
+            return false;
+        }
+        return tokenVersion < currentVersion(claims.getUserId());
+    }
+
+    // 현재 버전 조회 (로컬 캐시 -> 공유 상태 저장소 -> 사용자 스냅샷 순)
+    public long currentVersion(Long userId) {
+        return versions.get(userId, this::loadVersion);
+    }
+
+    private long loadVersion(Long userId) {
+        String shared = sharedStateStore.get(KEY_PREFIX + userId).orElse(null);
+        if (shared != null) {
+            return Long.parseLong(shared);
+        }
+
+        long version = userQueryService.findSnapshotById(userId)
+                .map(UserSnapshot::getTokenVersion)
+                .orElse(MISSING_USER_VERSION);
+        if (version != MISSING_USER_VERSION) {
+            sharedStateStore.put(KEY_PREFIX + userId, Long.toString(version), ttl);
+        }
+        return version;
+    }
+
+    // 트랜잭션 커밋 후 새 버전으로 갱신 (롤백되면 기존 버전 유지)
+    public void updateAfterCommit(Long userId, long tokenVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(userId, tokenVersion);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(userId, tokenVersion);
+            }
+        });
+    }
+
+    // 공유 상태 저장소에 기록하고 모든 인스턴스에 전파 (메시지: userId:version)
+    public void update(Long userId, long tokenVersion) {
+        updateLocal(userId, tokenVersion);
+        sharedStateStore.put(KEY_PREFIX + userId, Long.toString(tokenVersion), ttl);
+        sharedStateStore.publish(UPDATE_CHANNEL, userId + ":" + tokenVersion);
+    }
+
+    private void updateLocal(Long userId, long tokenVersion) {
+        // 다른 경로에서 더 높은 버전이 이미 반영되었으면 낮추지 않음
+        versions.asMap().merge(userId, tokenVersion, Math::max);
+        log.debug("토큰 버전 갱신: userId={}, version={}", userId, tokenVersion);
+    }
+
+    private void onUpdate(String message) {
+        String[] parts = message.split(":", 2);
+        updateLocal(Long.valueOf(parts[0]), Long.parseLong(parts[1]));
+    }
+}
@@ -0,0 +1,116 @@
+package com.hs.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hs.auth.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+// 서명 검증이 끝난 토큰의 클레임을 토큰 만료 시점까지 보관하는 캐시
+// 동일한 access token이 반복 전달되면 서명 검증과 JSON 파싱을 생략
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil, MeterRegistry meterRegistry,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    // 캐시된 클레임 반환, 없으면 서명 검증 후 캐시 (유효하지 않은 토큰은 캐시하지 않음)
+    public Optional<JwtClaims> getVerifiedClaims(String token) {
+        String key = digest(token);
+
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(Instant.now())) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(key);
+        }
+
+        Optional<JwtClaims> claims = jwtUtil.parseToken(token);
+        claims.filter(c -> c.getExpiresAt() != null)
+                .ifPresent(c -> cache.put(key, c));
+        return claims;
+    }
+
+    // 특정 토큰을 캐시에서 제거
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    // 전체 캐시 비우기
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // 적중/미스 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // 원본 토큰 대신 SHA-256 다이제스트를 키로 사용하여 메모리 사용량과 토큰 노출을 줄임
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 항목의 TTL을 토큰의 exp 클레임에 맞춤
+    private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            return remainingNanos(claims);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return remainingNanos(claims);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(JwtClaims claims) {
+            Duration remaining = Duration.between(Instant.now(), claims.getExpiresAt());
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+    }
+}
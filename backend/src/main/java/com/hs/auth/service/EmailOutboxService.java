@@ -0,0 +1,59 @@
+package com.hs.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hs.auth.entity.EmailOutbox;
+import com.hs.auth.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+
+// 이메일 발송 대기열 등록 (SMTP 연결 없이 요청 트랜잭션 안에서 행만 저장, 발송은 EmailOutboxDispatcher가 담당)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // 호출한 트랜잭션과 함께 커밋/롤백되어야 하므로 진행 중인 트랜잭션 필수
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(EmailOutbox.Type type, String recipient, Locale locale, Map<String, String> variables) {
+        EmailOutbox email = EmailOutbox.builder()
+                .type(type)
+                .recipient(recipient)
+                .locale(locale != null ? locale.toLanguageTag() : null)
+                .payload(writePayload(variables))
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+        emailOutboxRepository.save(email);
+        log.debug("이메일 발송 대기열 등록: {} -> {}", type, recipient);
+    }
+
+    public Map<String, String> readPayload(EmailOutbox email) {
+        try {
+            return objectMapper.readValue(email.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이메일 본문 변수를 읽을 수 없습니다: " + email.getId(), e);
+        }
+    }
+
+    private String writePayload(Map<String, String> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이메일 본문 변수를 저장할 수 없습니다", e);
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package com.hs.auth.service;
 
+import com.hs.auth.entity.EmailOutbox;
+import com.hs.auth.mail.EmailTemplateEngine;
+import com.hs.auth.mail.RenderedEmail;
+import com.hs.auth.mail.SmtpConnectionPool;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.beans.factory.annotation.Value;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
-@Slf4j
+// 이메일 작성/발송 (EmailOutboxDispatcher가 대기열의 메일을 묶음으로 작성한 뒤 SMTP 연결 풀로 발송)
+// 본문은 메일 종류별 템플릿(templates/email)으로 렌더링하므로 새 메일 종류는 EmailOutbox.Type과 템플릿만 추가
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender emailSender;
+    private final SmtpConnectionPool smtpConnectionPool;
+    private final EmailTemplateEngine templateEngine;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -26,46 +39,37 @@ public class EmailService {
     @Value("${app.frontend-url}")
     private String frontendUrl;
 
-    @Async("emailExecutor")
-    public CompletableFuture<Boolean> sendPasswordResetEmail(String to, String token) {
-        try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    // 발신 주소는 메일마다 파싱하지 않도록 기동 시 한 번만 파싱
+    private InternetAddress fromAddress;
 
-            helper.setFrom(fromEmail);
-            helper.setTo(to);
-            helper.setSubject("비밀번호 재설정 링크");
+    @PostConstruct
+    void init() throws AddressException {
+        this.fromAddress = new InternetAddress(fromEmail);
+    }
 
-            String resetLink = String.format("%s/reset-password?token=%s", frontendUrl, token);
-            String htmlContent = String.format("""
-                    <div style="font-family: 'Apple SD Gothic Neo', 'Noto Sans KR', sans-serif;">
-                        <h2 style="color: #2C3E50;">비밀번호 재설정</h2>
-                        <p style="color: #34495E;">안녕하세요.</p>
-                        <p style="color: #34495E;">비밀번호 재설정 링크가 생성되었습니다.</p>
-                        <div style="margin: 30px 0;">
-                            <a href="%s"
-                               style="background-color: #3498DB;
-                                      color: white;
-                                      padding: 10px 20px;
-                                      text-decoration: none;
-                                      border-radius: 5px;
-                                      display: inline-block;">
-                                비밀번호 재설정하러가기
-                            </a>
-                        </div>
-                        <p style="color: #7F8C8D; font-size: 0.9em;">이 링크는 30분 동안 유효합니다.</p>
-                        <p style="color: #7F8C8D; font-size: 0.9em;">비밀번호 재설정을 요청하지 않았다면 이 이메일을 무시하세요.</p>
-                    </div>
-                    """, resetLink);
+    // 메일 작성 (실패 시 MailPreparationException, 다시 시도해도 같은 결과)
+    public MimeMessage prepare(EmailOutbox.Type type, String to, Locale locale, Map<String, String> variables) {
+        Map<String, String> model = new HashMap<>(variables);
+        model.put("frontendUrl", frontendUrl);
 
-            helper.setText(htmlContent, true);
+        try {
+            RenderedEmail rendered = templateEngine.render(type.getTemplate(), locale, model);
 
-            emailSender.send(message);
-            log.info("비밀번호 재설정 이메일 발송 완료: {}", to);
-            return CompletableFuture.completedFuture(true);
-        } catch (MessagingException e) {
-            log.error("비밀번호 재설정 이메일 발송 실패: {}", to, e);
-            return CompletableFuture.completedFuture(false);
+            MimeMessage message = emailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom(fromAddress);
+            helper.setTo(to);
+            helper.setSubject(rendered.subject());
+            // 텍스트/HTML 대체 본문 (multipart/alternative)
+            helper.setText(rendered.text(), rendered.html());
+            return message;
+        } catch (MessagingException | IllegalArgumentException e) {
+            throw new MailPreparationException(type + " 이메일 작성 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    // 메일 묶음 발송 (결과는 입력 순서대로 성공이면 null, 실패면 예외)
+    public List<MailException> sendAll(List<MimeMessage> messages) {
+        return smtpConnectionPool.sendAll(messages);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hs.auth.service;
+
+import com.hs.auth.cache.UserCache;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.repository.UserRepository;
+import com.hs.auth.security.PasswordHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+// 로그인 성공 시 저장된 비밀번호 해시를 현재 알고리즘/비용으로 교체
+// 평문 비밀번호는 로그인 시점에만 알 수 있으므로 점진적으로 전환됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordUpgradeService {
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final UserCache userCache;
+
+    // 검증이 끝난 비밀번호로 다시 해싱 (교체가 필요 없으면 아무 작업도 하지 않음)
+    // 접두사만 빠진 기존 BCrypt 해시는 다시 해싱하지 않고 접두사만 붙여 저장
+    // 그 외에는 해싱 풀에 제출만 하고 기다리지 않음 (로그인 응답에 두 번째 해싱 시간이 더해지지 않도록 함,
+    // 대기열에 여유가 없으면 로그인 검증에 자리를 양보하고 다음 로그인에서 다시 시도)
+    // 해싱은 트랜잭션 밖에서 수행하여 DB 커넥션을 점유하지 않고, 갱신만 짧은 트랜잭션으로 처리
+    public void upgradeIfNeeded(UserSnapshot user, String rawPassword) {
+        if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        Optional<String> prefixed = passwordHasher.prefixLegacyHash(user.getPassword());
+        if (prefixed.isPresent()) {
+            replace(user, prefixed.get());
+            return;
+        }
+
+        passwordHasher.encodeForUpgrade(rawPassword)
+                .thenAccept(encodedPassword -> replace(user, encodedPassword))
+                .exceptionally(e -> {
+                    log.warn("비밀번호 해시 갱신 실패: 사용자 ID {}, {}", user.getUserId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    // 그 사이 비밀번호가 변경되었으면 갱신하지 않음 (이전 해시 기준 compare-and-set)
+    private void replace(UserSnapshot user, String encodedPassword) {
+        int updated = userRepository.updatePasswordHash(user.getUserId(), user.getPassword(), encodedPassword);
+        if (updated > 0) {
+            userCache.evict(user.getUserId(), user.getEmail());
+            log.info("비밀번호 해시 갱신: 사용자 ID {}", user.getUserId());
+        }
+    }
+}
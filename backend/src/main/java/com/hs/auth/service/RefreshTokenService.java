@@ -0,0 +1,101 @@
+package com.hs.auth.service;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.entity.RefreshToken;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.RefreshTokenRepository;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+// 리프레시 토큰 패밀리 관리 (발급, 회전, 재사용 감지, 폐기)
+@Slf4j
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final AuthMetrics authMetrics;
+    private final long refreshTokenExpiration;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+            JwtUtil jwtUtil,
+            AuthMetrics authMetrics,
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.authMetrics = authMetrics;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+    }
+
+    // 로그인 시 새 패밀리로 리프레시 토큰 발급
+    public String issue(Long userId, String email) {
+        String familyId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .jti(jti)
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(LocalDateTime.now().plus(refreshTokenExpiration, ChronoUnit.MILLIS))
+                .build());
+
+        return jwtUtil.generateRefreshToken(userId, email, jti, familyId);
+    }
+
+    // 리프레시 토큰 회전 (jti 인덱스로 조건부 UPDATE 1회)
+    // 이미 교체된 jti가 다시 제시되면 탈취로 보고 패밀리 전체를 폐기 (예외가 나도 폐기는 커밋)
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public String rotate(JwtClaims claims) {
+        if (claims.getTokenId() == null || claims.getFamilyId() == null) {
+            // 패밀리 도입 이전에 발급된 토큰은 서버에서 폐기할 수 없으므로 다시 로그인하도록 함
+            throw new IllegalArgumentException(AppConstants.Messages.REFRESH_TOKEN_INVALID);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String newJti = UUID.randomUUID().toString();
+        int rotated = refreshTokenRepository.rotate(claims.getTokenId(), newJti,
+                now.plus(refreshTokenExpiration, ChronoUnit.MILLIS), now);
+
+        if (rotated == 0) {
+            revokeOnReuse(claims, now);
+            throw new IllegalArgumentException(AppConstants.Messages.REFRESH_TOKEN_INVALID);
+        }
+
+        return jwtUtil.generateRefreshToken(claims.getUserId(), claims.getEmail(), newJti, claims.getFamilyId());
+    }
+
+    // 로그아웃 시 해당 패밀리 폐기
+    public void revoke(JwtClaims claims) {
+        if (claims.getFamilyId() == null) {
+            return;
+        }
+        refreshTokenRepository.revokeFamily(claims.getFamilyId(), LocalDateTime.now());
+    }
+
+    // 비밀번호 변경/재설정 시 사용자의 모든 패밀리 폐기
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        log.info("리프레시 토큰 폐기: 사용자 ID {}, {}건", userId, revoked);
+    }
+
+    // 제시된 jti가 패밀리의 현재 jti가 아니면 재사용으로 판단 (만료/폐기된 토큰은 단순 실패)
+    private void revokeOnReuse(JwtClaims claims, LocalDateTime now) {
+        refreshTokenRepository.findByFamilyId(claims.getFamilyId())
+                .filter(family -> !family.isRevoked() && !family.getJti().equals(claims.getTokenId()))
+                .ifPresent(family -> {
+                    refreshTokenRepository.revokeFamily(family.getFamilyId(), now);
+                    authMetrics.incrementRefreshTokenReuse();
+                    log.warn("리프레시 토큰 재사용 감지, 패밀리 폐기: 사용자 ID {}, family {}",
+                            family.getUserId(), family.getFamilyId());
+                });
+    }
+}
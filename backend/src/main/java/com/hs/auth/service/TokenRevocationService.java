@@ -0,0 +1,77 @@
+package com.hs.auth.service;
+
+import com.hs.auth.entity.RevokedToken;
+import com.hs.auth.repository.RevokedTokenRepository;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.security.TokenRevocationList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+// 액세스 토큰 폐기 (revoked_tokens 저장 후 커밋 시 폐기 목록에 즉시 반영 및 전파)
+@Slf4j
+@Service
+@Transactional
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final long accessTokenExpiration;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            TokenRevocationList tokenRevocationList,
+            @Value("${jwt.expiration}") long accessTokenExpiration) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.accessTokenExpiration = accessTokenExpiration;
+    }
+
+    // 특정 액세스 토큰 폐기 (로그아웃)
+    public void revokeToken(JwtClaims claims) {
+        if (claims.getTokenId() == null || claims.getExpiresAt() == null) {
+            return;
+        }
+
+        RevokedToken entry = revokedTokenRepository.save(RevokedToken.builder()
+                .jti(claims.getTokenId())
+                .userId(claims.getUserId())
+                .expiresAt(LocalDateTime.ofInstant(claims.getExpiresAt(), ZoneId.systemDefault()))
+                .build());
+        applyAfterCommit(entry);
+    }
+
+    // 사용자의 현재까지 발급된 모든 액세스 토큰 폐기 (전체 로그아웃, 비밀번호 변경/재설정)
+    // iat는 초 단위이므로 기준 시각도 초 단위로 내림 (같은 초에 새로 발급된 토큰은 유효,
+    // 같은 초에 이전에 발급된 토큰은 호출 측이 올린 토큰 버전으로 거부)
+    public void revokeAllForUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        RevokedToken entry = revokedTokenRepository.save(RevokedToken.builder()
+                .userId(userId)
+                .issuedBefore(now.truncatedTo(ChronoUnit.SECONDS))
+                .expiresAt(now.plus(accessTokenExpiration, ChronoUnit.MILLIS))
+                .build());
+        applyAfterCommit(entry);
+        log.info("액세스 토큰 전체 폐기: 사용자 ID {}", userId);
+    }
+
+    private void applyAfterCommit(RevokedToken entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenRevocationList.revoke(entry);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenRevocationList.revoke(entry);
+            }
+        });
+    }
+}
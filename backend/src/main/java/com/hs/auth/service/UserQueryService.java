@@ -1,13 +1,20 @@
 package com.hs.auth.service;
 
+import com.hs.auth.cache.UserCache;
 import com.hs.auth.common.exception.UserNotFoundException;
+import com.hs.auth.dto.DuplicateCheckResult;
+import com.hs.auth.dto.UserSnapshot;
 import com.hs.auth.entity.User;
+import com.hs.auth.metrics.AuthMetrics;
 import com.hs.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 // 사용자 조회 관련 서비스
 @Slf4j
 @Service
@@ -16,26 +23,52 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserQueryService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AuthMetrics authMetrics;
 
     // 이메일로 사용자 조회
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        return authMetrics.recordUserLookup("findByEmail", () -> userRepository.findByEmail(email))
                 .orElseThrow(() -> UserNotFoundException.byEmail(email));
     }
 
     // ID로 사용자 조회
     public User findById(Long userId) {
-        return userRepository.findById(userId)
+        return authMetrics.recordUserLookup("findById", () -> userRepository.findById(userId))
                 .orElseThrow(() -> UserNotFoundException.byId(userId));
     }
 
-    // 이메일 존재 여부 확인
-    public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+    // ID로 사용자 스냅샷 조회 (캐시 우선, 캐시 적중 시 트랜잭션/커넥션을 열지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<UserSnapshot> findSnapshotById(Long userId) {
+        return userCache.getById(userId, id -> authMetrics
+                .recordUserLookup("findSnapshotById", () -> userRepository.findSnapshotById(id)));
+    }
+
+    // 이메일로 사용자 스냅샷 조회 (캐시 우선, 캐시 적중 시 트랜잭션/커넥션을 열지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<UserSnapshot> findSnapshotByEmail(String email) {
+        return userCache.getByEmail(email, key -> authMetrics
+                .recordUserLookup("findSnapshotByEmail", () -> userRepository.findSnapshotByEmail(key)));
+    }
+
+    // 로그인 검증용 사용자 스냅샷 조회 (캐시를 거치지 않고 항상 단일 프로젝션 쿼리)
+    // 비밀번호 변경 커밋 직전에 읽은 이전 해시가 캐시에 다시 올라가도 로그인 검증에는 쓰이지 않도록 함
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<UserSnapshot> findLoginSnapshotByEmail(String email) {
+        return authMetrics.recordUserLookup("findLoginSnapshotByEmail",
+                () -> userRepository.findSnapshotByEmail(email));
+    }
+
+    // 회원가입 중복 검증 (단일 쿼리)
+    public DuplicateCheckResult findDuplicates(String email, String nickname, String phoneNumber) {
+        return authMetrics.recordUserLookup("findDuplicates",
+                () -> userRepository.findDuplicates(email, nickname, phoneNumber));
     }
 
-    // 닉네임 존재 여부 확인
-    public boolean existsByNickname(String nickname) {
-        return userRepository.existsByNickname(nickname);
+    // 프로필 수정 중복 검증 (본인 제외, 단일 쿼리)
+    public DuplicateCheckResult findDuplicatesExcluding(Long userId, String nickname, String phoneNumber) {
+        return authMetrics.recordUserLookup("findDuplicatesExcluding",
+                () -> userRepository.findDuplicatesExcluding(userId, nickname, phoneNumber));
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package com.hs.auth.service;
 
+import com.hs.auth.cache.UserCache;
+import com.hs.auth.common.exception.AuthenticationException;
+import com.hs.auth.common.exception.UserNotFoundException;
 import com.hs.auth.constants.AppConstants;
+import com.hs.auth.dto.UserSnapshot;
 import com.hs.auth.dto.request.ChangePasswordRequest;
 import com.hs.auth.dto.request.LoginRequest;
 import com.hs.auth.dto.request.SignUpRequest;
@@ -8,19 +12,27 @@ import com.hs.auth.dto.request.UpdateProfileRequest;
 import com.hs.auth.dto.request.ResetPasswordRequest;
 import com.hs.auth.dto.request.NewPasswordRequest;
 import com.hs.auth.dto.response.JwtResponse;
+import com.hs.auth.entity.EmailOutbox;
 import com.hs.auth.entity.User;
 import com.hs.auth.entity.PasswordResetToken;
 import com.hs.auth.repository.PasswordResetTokenRepository;
 import com.hs.auth.mapper.UserMapper;
+import com.hs.auth.metrics.AuthMetrics;
 import com.hs.auth.repository.UserRepository;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.security.LoginRateLimiter;
+import com.hs.auth.security.PasswordHasher;
+import com.hs.auth.security.TokenVersionCache;
 import com.hs.auth.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 // 사용자 관련 서비스
@@ -31,13 +43,20 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserMapper userMapper;
     private final JwtUtil jwtUtil;
     private final UserValidator userValidator;
     private final UserQueryService userQueryService;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final UserCache userCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionCache tokenVersionCache;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordUpgradeService passwordUpgradeService;
+    private final AuthMetrics authMetrics;
 
     // 회원가입
     @Transactional
@@ -52,7 +71,7 @@ public class UserService {
         User user = userMapper.toEntity(request);
 
         // 비밀번호 암호화 후 설정
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
         user.updatePassword(encodedPassword);
 
         User savedUser = userRepository.save(user);
@@ -61,17 +80,45 @@ public class UserService {
         return savedUser;
     }
 
-    // 로그인
-    public JwtResponse login(LoginRequest request) {
+    // 로그인 (사용자 조회는 캐시 우선이므로 트랜잭션을 미리 열지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public JwtResponse login(LoginRequest request, String clientIp) {
         log.info("로그인 요청: {}", request.getEmail());
 
+        // 시도 빈도 제한 및 잠금 확인 (비밀번호 검증 전에 거절)
+        try {
+            loginRateLimiter.checkAllowed(clientIp, request.getEmail());
+        } catch (RuntimeException e) {
+            authMetrics.recordLogin(false);
+            throw e;
+        }
+
         // 사용자 조회 및 비밀번호 검증
-        User user = userValidator.validateLogin(request.getEmail(), request.getPassword());
+        UserSnapshot user;
+        try {
+            user = userValidator.validateLogin(request.getEmail(), request.getPassword());
+        } catch (AuthenticationException e) {
+            loginRateLimiter.recordFailure(request.getEmail());
+            authMetrics.recordLogin(false);
+            throw e;
+        } catch (RuntimeException e) {
+            authMetrics.recordLogin(false);
+            throw e;
+        }
+        loginRateLimiter.recordSuccess(request.getEmail());
+
+        // 해시 알고리즘/비용이 바뀌었으면 다시 해싱 (해싱 풀에 맡기고 기다리지 않음, 실패해도 로그인은 진행)
+        try {
+            passwordUpgradeService.upgradeIfNeeded(user, request.getPassword());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패: 사용자 ID {}, {}", user.getUserId(), e.getMessage());
+        }
 
         // JWT 토큰 생성
-        String accessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getEmail());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), user.getEmail());
+        String accessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getEmail(), user.getTokenVersion());
+        String refreshToken = refreshTokenService.issue(user.getUserId(), user.getEmail());
 
+        authMetrics.recordLogin(true);
         log.info("로그인 성공: {} (ID: {})", user.getEmail(), user.getUserId());
 
         return JwtResponse.builder()
@@ -81,24 +128,37 @@ public class UserService {
                 .build();
     }
 
-    // 토큰 갱신
+    // 토큰 갱신 (사용자 조회는 캐시 우선이므로 트랜잭션을 미리 열지 않음)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public JwtResponse refreshToken(String refreshToken) {
-        // Refresh token 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // Refresh token 검증 및 사용자 정보 추출 (한 번만 파싱)
+        JwtClaims claims = jwtUtil.parseToken(refreshToken).orElse(null);
+        if (claims == null) {
+            authMetrics.recordRefresh(false);
             throw new IllegalArgumentException(AppConstants.Messages.REFRESH_TOKEN_INVALID);
         }
 
-        // 토큰에서 사용자 정보 추출
-        Long userId = jwtUtil.getUserIdFromToken(refreshToken);
-        String email = jwtUtil.getUsernameFromToken(refreshToken);
+        Long userId = claims.getUserId();
+        String email = claims.getEmail();
 
-        // 새 토큰 생성
-        String newAccessToken = jwtUtil.generateAccessToken(userId, email);
-        String newRefreshToken = jwtUtil.generateRefreshToken(userId, email);
+        // 리프레시 토큰 회전 (재사용이면 패밀리 폐기 후 예외)
+        String newRefreshToken;
+        try {
+            newRefreshToken = refreshTokenService.rotate(claims);
+        } catch (RuntimeException e) {
+            authMetrics.recordRefresh(false);
+            throw e;
+        }
 
-        // 사용자 정보 조회
-        User user = userQueryService.findById(userId);
+        // 사용자 정보 조회 (캐시 우선, 액세스 토큰에 현재 토큰 버전을 넣기 위해 먼저 조회)
+        UserSnapshot user = userQueryService.findSnapshotById(userId).orElse(null);
+        if (user == null) {
+            authMetrics.recordRefresh(false);
+            throw UserNotFoundException.byId(userId);
+        }
+        String newAccessToken = jwtUtil.generateAccessToken(userId, email, user.getTokenVersion());
 
+        authMetrics.recordRefresh(true);
         log.info("토큰 갱신 성공: {} (ID: {})", email, userId);
 
         return JwtResponse.builder()
@@ -108,6 +168,31 @@ public class UserService {
                 .build();
     }
 
+    // 로그아웃 (현재 액세스 토큰과 리프레시 토큰 패밀리 폐기, 유효하지 않은 토큰은 무시)
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            jwtUtil.parseToken(accessToken).ifPresent(tokenRevocationService::revokeToken);
+        }
+        if (refreshToken != null) {
+            jwtUtil.parseToken(refreshToken).ifPresent(refreshTokenService::revoke);
+        }
+    }
+
+    // 모든 기기에서 로그아웃 (발급된 모든 토큰 폐기)
+    @Transactional
+    public void logoutAll(Long userId) {
+        // 토큰 버전을 올려 폐기 기준 시각과 같은 초에 발급된 기존 토큰도 거부
+        User user = userQueryService.findById(userId);
+        user.incrementTokenVersion();
+        userCache.evictAfterCommit(user.getUserId(), user.getEmail());
+        tokenVersionCache.updateAfterCommit(user.getUserId(), user.getTokenVersion());
+
+        refreshTokenService.revokeAllForUser(userId);
+        tokenRevocationService.revokeAllForUser(userId);
+        log.info("전체 로그아웃 완료: 사용자 ID {}", userId);
+    }
+
     // 비밀번호 변경
     @Transactional
     public void changePassword(Long userId, ChangePasswordRequest request) {
@@ -120,8 +205,14 @@ public class UserService {
         userValidator.validateCurrentPassword(user, request.getCurrentPassword());
 
         // 새 비밀번호 암호화 및 저장
-        String encodedNewPassword = passwordEncoder.encode(request.getNewPassword());
+        String encodedNewPassword = passwordHasher.encode(request.getNewPassword());
         user.updatePassword(encodedNewPassword);
+        userCache.evictAfterCommit(user.getUserId(), user.getEmail());
+        tokenVersionCache.updateAfterCommit(user.getUserId(), user.getTokenVersion());
+
+        // 기존 세션의 리프레시 토큰과 액세스 토큰 모두 폐기
+        refreshTokenService.revokeAllForUser(userId);
+        tokenRevocationService.revokeAllForUser(userId);
 
         log.info("비밀번호 변경 완료: 사용자 ID {}", userId);
     }
@@ -130,14 +221,15 @@ public class UserService {
     @Transactional
     public User updateProfile(Long userId, UpdateProfileRequest request) {
 
-        User user = userQueryService.findById(userId);
+        // 중복 검증 (본인 제외, 엔티티를 로드하기 전에 거절)
+        userValidator.validateDuplicateForUpdate(userId, request);
 
-        // 중복 검증 (본인 제외)
-        userValidator.validateDuplicateForUpdate(user, request);
+        User user = userQueryService.findById(userId);
 
         user.updateProfile(request.getNickname(), request.getName(), request.getPhoneNumber());
 
         User savedUser = userRepository.saveAndFlush(user);
+        userCache.evictAfterCommit(savedUser.getUserId(), savedUser.getEmail());
 
         log.info("프로필 업데이트 완료: 사용자 ID {}", userId);
         return savedUser;
@@ -173,15 +265,11 @@ public class UserService {
         user.addPasswordResetToken(resetToken);
         userRepository.save(user);
 
-        // 이메일 발송 (비동기)
-        emailService.sendPasswordResetEmail(email, tokenValue)
-                .thenAccept(success -> {
-                    if (success) {
-                        log.info("비밀번호 재설정 요청 처리 완료: {}", email);
-                    } else {
-                        log.warn("비밀번호 재설정 이메일 발송은 실패했지만, 토큰은 생성됨: {}", email);
-                    }
-                });
+        // 이메일 발송 대기열 등록 (토큰과 같은 트랜잭션으로 커밋, 발송은 EmailOutboxDispatcher가 처리)
+        // 메일 언어는 요청의 Accept-Language 기준 (없으면 spring.web.locale)
+        emailOutboxService.enqueue(EmailOutbox.Type.PASSWORD_RESET, email, LocaleContextHolder.getLocale(),
+                Map.of("token", tokenValue));
+        log.info("비밀번호 재설정 요청 처리 완료: {}", email);
     }
 
     // 비밀번호 재설정
@@ -200,13 +288,17 @@ public class UserService {
         User user = resetToken.getUser();
 
         // 비밀번호 업데이트
-        String encodedPassword = passwordEncoder.encode(request.getNewPassword());
+        String encodedPassword = passwordHasher.encode(request.getNewPassword());
         user.updatePassword(encodedPassword);
 
         // 토큰 사용 완료 표시
         resetToken.markAsUsed();
 
         userRepository.save(user);
+        userCache.evictAfterCommit(user.getUserId(), user.getEmail());
+        tokenVersionCache.updateAfterCommit(user.getUserId(), user.getTokenVersion());
+        refreshTokenService.revokeAllForUser(user.getUserId());
+        tokenRevocationService.revokeAllForUser(user.getUserId());
         log.info("비밀번호 재설정 완료: {}", user.getEmail());
     }
 }
\ No newline at end of file
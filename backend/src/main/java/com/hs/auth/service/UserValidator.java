@@ -2,12 +2,15 @@ package com.hs.auth.service;
 
 import com.hs.auth.common.exception.AuthenticationException;
 import com.hs.auth.common.exception.DuplicateUserException;
+import com.hs.auth.dto.DuplicateCheckResult;
+import com.hs.auth.dto.UserSnapshot;
 import com.hs.auth.dto.request.SignUpRequest;
 import com.hs.auth.dto.request.UpdateProfileRequest;
 import com.hs.auth.entity.User;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 // 사용자 관련 검증 로직
@@ -17,7 +20,8 @@ import org.springframework.stereotype.Component;
 public class UserValidator {
 
     private final UserQueryService userQueryService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final AuthMetrics authMetrics;
 
     // 비밀번호 확인 검증
     public void validatePasswordConfirmation(String password, String confirmPassword) {
@@ -27,10 +31,19 @@ public class UserValidator {
     }
 
     // 로그인 검증
-    public User validateLogin(String email, String password) {
-        User user = userQueryService.findByEmail(email);
+    // 사용자 조회는 캐시를 거치지 않는 단일 프로젝션 쿼리 (변경된 비밀번호 해시를 항상 DB에서 읽음)
+    // 비밀번호 검증은 사용자 존재 여부와 관계없이 항상 1회
+    // (없는 이메일은 더미 해시로 검증하고 같은 예외를 던져 응답 내용과 시간으로 구분되지 않도록 함)
+    public UserSnapshot validateLogin(String email, String password) {
+        long start = System.nanoTime();
+        UserSnapshot user = userQueryService.findLoginSnapshotByEmail(email).orElse(null);
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        boolean matches = user != null
+                ? passwordHasher.matches(password, user.getPassword())
+                : passwordHasher.matchesDummy(password);
+        authMetrics.recordLoginVerify(user != null, System.nanoTime() - start);
+
+        if (!matches) {
             throw AuthenticationException.loginFailed();
         }
 
@@ -39,28 +52,37 @@ public class UserValidator {
 
     // 현재 비밀번호 검증
     public void validateCurrentPassword(User user, String currentPassword) {
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHasher.matches(currentPassword, user.getPassword())) {
             throw AuthenticationException.currentPasswordInvalid();
         }
     }
 
-    // 중복 사용자 검증 (회원가입 시)
+    // 중복 사용자 검증 (회원가입 시, 이메일/닉네임/전화번호를 한 번의 쿼리로 확인)
     public void validateDuplicateUser(SignUpRequest request) {
-        if (userQueryService.existsByEmail(request.getEmail())) {
+        DuplicateCheckResult duplicates = userQueryService.findDuplicates(
+                request.getEmail(), request.getNickname(), request.getPhoneNumber());
+
+        if (duplicates.isEmailTaken()) {
             throw DuplicateUserException.email(request.getEmail());
         }
-        if (userQueryService.existsByNickname(request.getNickname())) {
+        if (duplicates.isNicknameTaken()) {
             throw DuplicateUserException.nickname(request.getNickname());
         }
+        if (duplicates.isPhoneNumberTaken()) {
+            throw DuplicateUserException.phoneNumber(request.getPhoneNumber());
+        }
     }
 
-    // 중복 검증 (프로필 업데이트 시 - 본인 제외)
-    public void validateDuplicateForUpdate(User currentUser, UpdateProfileRequest request) {
-        // 닉네임 중복 체크 (본인 제외)
-        if (!currentUser.getNickname().equals(request.getNickname()) &&
-                userQueryService.existsByNickname(request.getNickname())) {
+    // 중복 검증 (프로필 업데이트 시 - 본인 제외, 엔티티 로드 없이 한 번의 쿼리로 확인)
+    public void validateDuplicateForUpdate(Long userId, UpdateProfileRequest request) {
+        DuplicateCheckResult duplicates = userQueryService.findDuplicatesExcluding(
+                userId, request.getNickname(), request.getPhoneNumber());
+
+        if (duplicates.isNicknameTaken()) {
             throw DuplicateUserException.nickname(request.getNickname());
         }
-
+        if (duplicates.isPhoneNumberTaken()) {
+            throw DuplicateUserException.phoneNumber(request.getPhoneNumber());
+        }
     }
 }
\ No newline at end of file
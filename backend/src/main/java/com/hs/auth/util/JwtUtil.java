@@ -1,77 +1,94 @@
 package com.hs.auth.util;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.hs.auth.constants.AppConstants;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.security.JwtKeyProvider;
+import com.hs.auth.security.JwtSigningKey;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 // JWT 토큰 유틸리티 클래스
 @Slf4j
 @Component
 public class JwtUtil {
 
-    private final SecretKey secretKey;
+    private final JwtKeyProvider keyProvider;
+    // JwtParser는 불변이며 thread-safe하므로 한 번만 생성하여 재사용 (검증 키는 kid로 조회)
+    private final JwtParser jwtParser;
     private final long jwtExpiration;
     private final long refreshTokenExpiration;
+    private final AuthMetrics authMetrics;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret,
+    public JwtUtil(JwtKeyProvider keyProvider,
             @Value("${jwt.expiration}") long jwtExpiration,
-            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+            @Value("${jwt.refresh-expiration}") long refreshTokenExpiration,
+            AuthMetrics authMetrics) {
+        this.keyProvider = keyProvider;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyProvider.resolveVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
         this.jwtExpiration = jwtExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.authMetrics = authMetrics;
     }
 
-    // JWT 액세스 토큰 생성 (사용자 ID와 이메일 포함)
-    public String generateAccessToken(Long userId, String email) {
-        return generateTokenWithUserId(userId, email, jwtExpiration);
+    // JWT 액세스 토큰 생성 (사용자 ID, 이메일, 토큰 버전 포함)
+    public String generateAccessToken(Long userId, String email, long tokenVersion) {
+        // 개별 폐기(로그아웃)를 위해 액세스 토큰에도 jti 부여
+        return generateTokenWithUserId(userId, email, jwtExpiration, UUID.randomUUID().toString(), null,
+                tokenVersion, null);
     }
 
-    // JWT 리프레시 토큰 생성 (사용자 ID와 이메일 포함)
-    public String generateRefreshToken(Long userId, String email) {
-        return generateTokenWithUserId(userId, email, refreshTokenExpiration);
+    // JWT 리프레시 토큰 생성 (서버에 저장된 토큰 ID와 패밀리 ID, typ=refresh 포함)
+    // 같은 키로 서명되므로 typ 클레임으로 액세스 토큰과 구분 (JwtAuthenticationFilter에서 거부)
+    public String generateRefreshToken(Long userId, String email, String tokenId, String familyId) {
+        return generateTokenWithUserId(userId, email, refreshTokenExpiration, tokenId, familyId, null,
+                AppConstants.Http.TOKEN_TYPE_REFRESH);
     }
 
-    // JWT 토큰 생성 (사용자 ID 포함)
-    private String generateTokenWithUserId(Long userId, String email, long expiration) {
+    // JWT 토큰 생성 (사용자 ID 포함, familyId/tokenVersion/tokenType이 null이면 클레임 생략)
+    private String generateTokenWithUserId(Long userId, String email, long expiration,
+            String tokenId, String familyId, Long tokenVersion, String tokenType) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
+        JwtSigningKey signingKey = keyProvider.getSigningKey();
 
-        return Jwts.builder()
+        return authMetrics.recordTokenSign(() -> Jwts.builder()
+                .header().keyId(signingKey.getKeyId()).and() // 검증 측이 kid로 공개 키를 선택
                 .subject(email) // subject는 이메일로 유지 (호환성)
                 .claim(AppConstants.Http.USER_ID_CLAIM, userId) // 커스텀 claim으로 사용자 ID 추가
+                .id(tokenId)
+                .claim(AppConstants.Http.FAMILY_ID_CLAIM, familyId)
+                .claim(AppConstants.Http.TOKEN_VERSION_CLAIM, tokenVersion)
+                .claim(AppConstants.Http.TOKEN_TYPE_CLAIM, tokenType)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+                .signWith(signingKey.getSigningKey())
+                .compact());
     }
 
     // JWT 토큰에서 사용자명(이메일) 추출
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // JWT 토큰에서 사용자 ID 추출
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get(AppConstants.Http.USER_ID_CLAIM, Long.class);
+        return parseClaims(token).get(AppConstants.Http.USER_ID_CLAIM, Long.class);
     }
 
     // HTTP 요청에서 JWT 토큰 추출
@@ -92,23 +109,33 @@ public class JwtUtil {
         return getUserIdFromToken(token);
     }
 
-    // JWT 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    // JWT 토큰을 한 번만 파싱하여 검증된 클레임 반환 (유효하지 않으면 empty)
+    public Optional<JwtClaims> parseToken(String token) {
+        long start = System.nanoTime();
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
+            JwtClaims claims = JwtClaims.from(parseClaims(token));
+            authMetrics.recordTokenVerify(System.nanoTime() - start, true);
+            return Optional.of(claims);
+        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error(AppConstants.Messages.JWT_SIGNATURE_INVALID);
         } catch (ExpiredJwtException e) {
             log.error(AppConstants.Messages.JWT_TOKEN_EXPIRED);
         } catch (UnsupportedJwtException e) {
             log.error(AppConstants.Messages.JWT_TOKEN_UNSUPPORTED);
-        } catch (IllegalArgumentException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.error(AppConstants.Messages.JWT_TOKEN_INVALID);
         }
-        return false;
+        authMetrics.recordTokenVerify(System.nanoTime() - start, false);
+        return Optional.empty();
+    }
+
+    // JWT 토큰 유효성 검증
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    // 서명 검증 후 Claims 추출 (검증 실패 시 JwtException)
+    private Claims parseClaims(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+-- 초기 스키마 (회원, 비밀번호 재설정 토큰)
+CREATE TABLE users (
+    user_id      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email        VARCHAR(100) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    nickname     VARCHAR(20)  NOT NULL,
+    name         VARCHAR(10)  NOT NULL,
+    phone_number VARCHAR(13)  NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE password_reset_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token       VARCHAR(255) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    expiry_date TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6),
+    used_at     TIMESTAMP(6),
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
@@ -0,0 +1,29 @@
+-- 토큰 버전, 리프레시 토큰 패밀리, 액세스 토큰 폐기 목록
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jti         VARCHAR(36)  NOT NULL,
+    family_id   VARCHAR(36)  NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6),
+    rotated_at  TIMESTAMP(6),
+    revoked_at  TIMESTAMP(6),
+    CONSTRAINT uk_refresh_tokens_jti UNIQUE (jti),
+    CONSTRAINT uk_refresh_tokens_family_id UNIQUE (family_id)
+);
+
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+
+CREATE TABLE revoked_tokens (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    jti           VARCHAR(36),
+    user_id       BIGINT       NOT NULL,
+    issued_before TIMESTAMP(6),
+    expires_at    TIMESTAMP(6) NOT NULL,
+    created_at    TIMESTAMP(6)
+);
+
+CREATE INDEX idx_revoked_tokens_created_at ON revoked_tokens (created_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
@@ -0,0 +1,10 @@
+-- 중복 검사/정리 작업이 조회하는 컬럼 인덱스
+-- 기존 데이터에 닉네임/전화번호 중복이 있으면 실패하므로 적용 전에 중복 행을 정리해야 함
+ALTER TABLE users ADD CONSTRAINT uk_users_nickname UNIQUE (nickname);
+ALTER TABLE users ADD CONSTRAINT uk_users_phone_number UNIQUE (phone_number);
+
+-- TokenCleanupScheduler: expiry_date < ? ORDER BY expiry_date (사용 여부와 관계없이 정리)
+CREATE INDEX idx_password_reset_tokens_expiry ON password_reset_tokens (expiry_date);
+
+-- TokenCleanupScheduler: expires_at < ? ORDER BY expires_at
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,26 @@
+-- 초기 스키마 (회원, 비밀번호 재설정 토큰)
+-- 기존 운영 DB는 spring.flyway.baseline-on-migrate로 이 버전을 기준점으로 등록하고 V2부터 적용
+CREATE TABLE users (
+    user_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    email        VARCHAR(100) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    nickname     VARCHAR(20)  NOT NULL,
+    name         VARCHAR(10)  NOT NULL,
+    phone_number VARCHAR(13)  NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE password_reset_tokens (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    token       VARCHAR(255) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    created_at  DATETIME(6),
+    used_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,31 @@
+-- 토큰 버전, 리프레시 토큰 패밀리, 액세스 토큰 폐기 목록
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    jti         VARCHAR(36)  NOT NULL,
+    family_id   VARCHAR(36)  NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    expires_at  DATETIME(6)  NOT NULL,
+    created_at  DATETIME(6),
+    rotated_at  DATETIME(6),
+    revoked_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_jti UNIQUE (jti),
+    CONSTRAINT uk_refresh_tokens_family_id UNIQUE (family_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+
+CREATE TABLE revoked_tokens (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    jti           VARCHAR(36),
+    user_id       BIGINT       NOT NULL,
+    issued_before DATETIME(6),
+    expires_at    DATETIME(6)  NOT NULL,
+    created_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_revoked_tokens_created_at ON revoked_tokens (created_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
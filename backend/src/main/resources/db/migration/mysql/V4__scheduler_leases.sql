@@ -0,0 +1,8 @@
+-- 스케줄 작업 리스 (여러 인스턴스 중 리스를 잡은 인스턴스만 작업 실행)
+CREATE TABLE scheduler_leases (
+    lease_name   VARCHAR(64)  NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    locked_at    DATETIME(6)  NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (lease_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- 이메일 발송 대기열 (요청 트랜잭션에서 함께 저장하고 EmailOutboxDispatcher가 발송/재시도)
+CREATE TABLE email_outbox (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    email_type      VARCHAR(32)   NOT NULL,
+    recipient       VARCHAR(100)  NOT NULL,
+    payload         VARCHAR(2000) NOT NULL,
+    status          VARCHAR(16)   NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)   NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6),
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
+CREATE INDEX idx_email_outbox_created_at ON email_outbox (created_at);
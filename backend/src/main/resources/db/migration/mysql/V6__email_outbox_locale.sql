@@ -0,0 +1,2 @@
+-- 이메일 템플릿 언어 선택용 수신자 로케일 (BCP 47 언어 태그, 없으면 기본 템플릿)
+ALTER TABLE email_outbox ADD COLUMN locale VARCHAR(35);
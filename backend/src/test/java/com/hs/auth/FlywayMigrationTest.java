@@ -0,0 +1,59 @@
+package com.hs.auth;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마이그레이션 적용 결과와 DB 종류별 스크립트 구성 검증 (엔티티 매핑은 ddl-auto: validate로 기동 시 검증)
+@SpringBootTest
+class FlywayMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void allMigrationsAreApplied() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied())
+                .isNotEmpty()
+                .extracting(MigrationInfo::getState)
+                .containsOnly(MigrationState.SUCCESS);
+    }
+
+    @Test
+    void vendorScriptsStayInSync() throws IOException {
+        // 한쪽에만 추가된 마이그레이션이 없도록 버전/이름이 같아야 함
+        assertThat(scripts("h2")).isNotEmpty().isEqualTo(scripts("mysql"));
+    }
+
+    @Test
+    void passwordResetCleanupIndexCoversExpiryDateOnly() {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                        + "WHERE INDEX_NAME = 'IDX_PASSWORD_RESET_TOKENS_EXPIRY' ORDER BY ORDINAL_POSITION",
+                String.class);
+
+        assertThat(columns).containsExactly("EXPIRY_DATE");
+    }
+
+    private static List<String> scripts(String vendor) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:db/migration/" + vendor + "/*.sql");
+        return Arrays.stream(resources).map(Resource::getFilename).sorted().toList();
+    }
+}
@@ -0,0 +1,245 @@
+package com.hs.auth.cache;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.entity.RevokedToken;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.RevokedTokenRepository;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.security.TokenRevocationList;
+import com.hs.auth.security.TokenVersionCache;
+import com.hs.auth.service.UserQueryService;
+import io.jsonwebtoken.Jwts;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 내장 RESP 서버(jedis-mock)에 두 인스턴스를 연결해 공유 상태 저장소와 무효화 전파 검증
+class RedisSharedStateStoreTest {
+
+    private static final String KEY_PREFIX = "hs-auth:";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static RedisServer server;
+
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = RedisServer.newRedisServer();
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @AfterEach
+    void closeConnections() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void putStoresPrefixedValueWithTtl() {
+        Instance instance = connect(server.getBindPort(), true);
+
+        instance.store().put("ttl-key", "value", Duration.ofMinutes(5));
+
+        assertThat(instance.store().get("ttl-key")).contains("value");
+        assertThat(instance.template().getExpire(KEY_PREFIX + "ttl-key", TimeUnit.SECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(300L);
+    }
+
+    @Test
+    void expiredAndInvalidatedKeysAreAbsent() {
+        Instance instance = connect(server.getBindPort(), true);
+
+        instance.store().put("short-key", "value", Duration.ofMillis(200));
+        instance.store().put("removed-key", "value", Duration.ofMinutes(5));
+        instance.store().invalidate("removed-key");
+
+        assertThat(instance.store().get("removed-key")).isEmpty();
+        await(() -> instance.store().get("short-key").isEmpty());
+    }
+
+    @Test
+    void invalidationsReachCachesOnOtherInstances() {
+        Instance writer = connect(server.getBindPort(), true);
+        Instance reader = connect(server.getBindPort(), true);
+
+        UserQueryService userQueryService = mock(UserQueryService.class);
+        when(userQueryService.findSnapshotById(7L)).thenReturn(Optional.of(snapshot(7L, 0L)));
+
+        UserCache writerUsers = new UserCache(writer.meterRegistry(), writer.store(), 100, Duration.ofMinutes(10));
+        UserCache readerUsers = new UserCache(reader.meterRegistry(), reader.store(), 100, Duration.ofMinutes(10));
+        TokenVersionCache writerVersions = new TokenVersionCache(userQueryService, writer.store(),
+                writer.meterRegistry(), 100, Duration.ofMinutes(30));
+        TokenVersionCache readerVersions = new TokenVersionCache(userQueryService, reader.store(),
+                reader.meterRegistry(), 100, Duration.ofMinutes(30));
+        TokenRevocationList writerRevocations = new TokenRevocationList(mock(RevokedTokenRepository.class),
+                writer.store(), writer.meterRegistry(), 100, 0.01);
+        TokenRevocationList readerRevocations = new TokenRevocationList(mock(RevokedTokenRepository.class),
+                reader.store(), reader.meterRegistry(), 100, 0.01);
+        awaitSubscribed(writer, reader);
+
+        // 읽는 인스턴스의 로컬 캐시를 먼저 채움
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, Optional<UserSnapshot>> loader = id -> {
+            loads.incrementAndGet();
+            return Optional.of(snapshot(id, 0L));
+        };
+        readerUsers.getById(7L, loader);
+        assertThat(readerVersions.currentVersion(7L)).isZero();
+        JwtClaims claims = claims(7L, "redis-jti");
+        assertThat(readerRevocations.isRevoked(claims)).isFalse();
+
+        writerUsers.evict(7L, "user7@example.com");
+        writerVersions.update(7L, 1L);
+        writerRevocations.revoke(RevokedToken.builder()
+                .jti("redis-jti")
+                .userId(7L)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build());
+
+        await(() -> {
+            readerUsers.getById(7L, loader);
+            return loads.get() == 2;
+        });
+        await(() -> readerVersions.currentVersion(7L) == 1L);
+        await(() -> readerRevocations.isRevoked(claims));
+    }
+
+    @Test
+    void failuresAreSwallowedAndCounted() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        Instance instance = connect(closedPort, false);
+
+        assertThat(instance.store().get("key")).isEmpty();
+        instance.store().put("key", "value", Duration.ofMinutes(1));
+        instance.store().invalidate("key");
+        instance.store().publish("channel", "message");
+
+        for (String operation : List.of("get", "put", "invalidate", "publish")) {
+            assertThat(instance.meterRegistry().get(AppConstants.Metrics.SHARED_STATE_ERRORS)
+                    .tag("operation", operation)
+                    .counter()
+                    .count())
+                    .as(operation)
+                    .isEqualTo(1.0);
+        }
+    }
+
+    private Instance connect(int port, boolean listen) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder()
+                        .protocolVersion(ProtocolVersion.RESP2)
+                        .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofSeconds(1)).build())
+                        .build())
+                .commandTimeout(Duration.ofSeconds(2))
+                .build();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(server.getHost(), port), clientConfiguration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        connectionFactories.add(connectionFactory);
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (listen) {
+            container.afterPropertiesSet();
+            container.start();
+            listenerContainers.add(container);
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisSharedStateStore store = new RedisSharedStateStore(template, container, KEY_PREFIX,
+                new AuthMetrics(meterRegistry));
+        return new Instance(store, template, meterRegistry);
+    }
+
+    // 구독은 비동기로 맺어지므로 앞서 등록한 채널까지 준비될 때까지 확인용 메시지를 반복 발행
+    private static void awaitSubscribed(Instance publisher, Instance subscriber) {
+        AtomicBoolean received = new AtomicBoolean();
+        subscriber.store().subscribe("probe", message -> received.set(true));
+        await(() -> {
+            publisher.store().publish("probe", "ping");
+            return received.get();
+        });
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건이 " + TIMEOUT + " 안에 충족되지 않음");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("대기 중 인터럽트");
+            }
+        }
+    }
+
+    private static UserSnapshot snapshot(Long userId, long tokenVersion) {
+        return new UserSnapshot(userId, "user" + userId + "@example.com", "{bcrypt}hash", "nick" + userId,
+                "name", null, tokenVersion, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static JwtClaims claims(Long userId, String tokenId) {
+        Instant now = Instant.now();
+        return JwtClaims.from(Jwts.claims()
+                .subject("user" + userId + "@example.com")
+                .id(tokenId)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(900)))
+                .add(AppConstants.Http.USER_ID_CLAIM, userId)
+                .build());
+    }
+
+    private record Instance(RedisSharedStateStore store, StringRedisTemplate template,
+            SimpleMeterRegistry meterRegistry) {
+    }
+}
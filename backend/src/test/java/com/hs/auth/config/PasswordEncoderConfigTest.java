@@ -0,0 +1,72 @@
+package com.hs.auth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 테스트 속도를 위해 낮은 비용 사용 (bcrypt strength 4, pbkdf2 1000회)
+class PasswordEncoderConfigTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final PasswordEncoderConfig config = new PasswordEncoderConfig();
+
+    @Test
+    void pbkdf2HashCarriesIterationCountInId() {
+        String hash = pbkdf2(1_000, List.of(), Duration.ZERO).encode(PASSWORD);
+
+        assertThat(hash).startsWith("{pbkdf2@1000}");
+    }
+
+    @Test
+    void pbkdf2HashesStillMatchAfterIterationChange() {
+        String oldHash = pbkdf2(1_000, List.of(), Duration.ZERO).encode(PASSWORD);
+        PasswordEncoder upgraded = pbkdf2(2_000, List.of(1_000), Duration.ZERO);
+
+        assertThat(upgraded.matches(PASSWORD, oldHash)).isTrue();
+        assertThat(upgraded.upgradeEncoding(oldHash)).isTrue();
+
+        String newHash = upgraded.encode(PASSWORD);
+        assertThat(newHash).startsWith("{pbkdf2@2000}");
+        assertThat(upgraded.matches(PASSWORD, newHash)).isTrue();
+        assertThat(upgraded.upgradeEncoding(newHash)).isFalse();
+    }
+
+    @Test
+    void targetLatencyDoesNotCalibratePbkdf2() {
+        String hash = pbkdf2(1_000, List.of(), Duration.ofSeconds(1)).encode(PASSWORD);
+
+        assertThat(hash).startsWith("{pbkdf2@1000}");
+        assertThat(pbkdf2(1_000, List.of(), Duration.ZERO).matches(PASSWORD, hash)).isTrue();
+    }
+
+    @Test
+    void unprefixedBcryptHashIsVerifiedAndUpgraded() {
+        PasswordEncoder encoder = encoder("bcrypt", 1_000, List.of(), Duration.ZERO);
+        String legacyHash = encoder.encode(PASSWORD).substring("{bcrypt}".length());
+
+        assertThat(encoder.matches(PASSWORD, legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @Test
+    void unknownAlgorithmFailsStartup() {
+        assertThatThrownBy(() -> encoder("md5", 1_000, List.of(), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PasswordEncoder pbkdf2(int iterations, List<Integer> previousIterations, Duration targetLatency) {
+        return encoder(PasswordEncoderConfig.PBKDF2, iterations, previousIterations, targetLatency);
+    }
+
+    private PasswordEncoder encoder(String algorithm, int pbkdf2Iterations, List<Integer> previousIterations,
+            Duration targetLatency) {
+        return config.passwordEncoder(algorithm, targetLatency, 4, 19456, 2, 1, pbkdf2Iterations,
+                previousIterations);
+    }
+}
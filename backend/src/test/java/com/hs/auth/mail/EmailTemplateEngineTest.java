@@ -0,0 +1,104 @@
+package com.hs.auth.mail;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailTemplateEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void localeFallsBackFromCountryToLanguageToDefault() throws IOException {
+        write("greeting.txt", "Subject: 안녕하세요 {{name}}\n\n기본 {{name}}");
+        write("greeting.html", "<p>기본 {{name}}</p>");
+        write("greeting_en.txt", "Subject: Hello {{name}}\n\nen {{name}}");
+        write("greeting_en.html", "<p>en {{name}}</p>");
+        write("greeting_en_GB.txt", "Subject: Hello {{name}}\n\nen_GB {{name}}");
+        write("greeting_en_GB.html", "<p>en_GB {{name}}</p>");
+        EmailTemplateEngine engine = engine();
+        Map<String, String> variables = Map.of("name", "Kim");
+
+        assertThat(engine.render("greeting", Locale.UK, variables).text()).isEqualTo("en_GB Kim");
+        assertThat(engine.render("greeting", Locale.US, variables).text()).isEqualTo("en Kim");
+        assertThat(engine.render("greeting", Locale.FRANCE, variables).text()).isEqualTo("기본 Kim");
+        assertThat(engine.render("greeting", null, variables).subject()).isEqualTo("안녕하세요 Kim");
+    }
+
+    @Test
+    void htmlValuesAreEscapedButTextValuesAreNot() throws IOException {
+        write("notice.txt", "Subject: {{value}}\n\n{{value}}");
+        write("notice.html", "<a href=\"/x?v={{value}}\">{{value}}</a>");
+        String value = "<script>alert('x')</script> & \"quoted\"";
+
+        RenderedEmail rendered = engine().render("notice", Locale.KOREA, Map.of("value", value));
+
+        assertThat(rendered.subject()).isEqualTo(value);
+        assertThat(rendered.text()).isEqualTo(value);
+        assertThat(rendered.html()).isEqualTo("<a href=\"/x?v=&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; "
+                + "&amp; &quot;quoted&quot;\">&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;quoted&quot;</a>");
+    }
+
+    @Test
+    void missingVariableOrTemplateFailsRendering() throws IOException {
+        write("notice.txt", "Subject: 알림\n\n{{value}}");
+        write("notice.html", "<p>{{value}}</p>");
+        EmailTemplateEngine engine = engine();
+
+        assertThatThrownBy(() -> engine.render("notice", Locale.KOREA, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("value");
+        assertThatThrownBy(() -> engine.render("unknown", Locale.KOREA, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void malformedTemplatesFailStartup() throws IOException {
+        write("orphan.html", "<p>텍스트 짝 없음</p>");
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalStateException.class);
+
+        Files.delete(tempDir.resolve("orphan.html"));
+        write("localized_en.txt", "Subject: Only English\n\nbody");
+        write("localized_en.html", "<p>body</p>");
+        assertThatThrownBy(this::engine)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("localized");
+
+        Files.delete(tempDir.resolve("localized_en.txt"));
+        Files.delete(tempDir.resolve("localized_en.html"));
+        write("no-subject.txt", "body without subject");
+        write("no-subject.html", "<p>body</p>");
+        assertThatThrownBy(this::engine).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void bundledPasswordResetTemplatesRender() throws IOException {
+        EmailTemplateEngine engine = new EmailTemplateEngine("classpath:templates/email/");
+        Map<String, String> variables = Map.of("frontendUrl", "https://example.com", "token", "abc-123");
+
+        for (Locale locale : new Locale[] {Locale.KOREA, Locale.US, null}) {
+            RenderedEmail rendered = engine.render("password-reset", locale, variables);
+            assertThat(rendered.subject()).isNotBlank();
+            assertThat(rendered.text()).contains("abc-123");
+            assertThat(rendered.html()).contains("abc-123");
+        }
+        assertThat(engine.render("password-reset", Locale.US, variables).subject()).isEqualTo("Reset your password");
+    }
+
+    private EmailTemplateEngine engine() throws IOException {
+        return new EmailTemplateEngine(tempDir.toUri().toString());
+    }
+
+    private void write(String filename, String content) throws IOException {
+        Files.writeString(tempDir.resolve(filename), content);
+    }
+}
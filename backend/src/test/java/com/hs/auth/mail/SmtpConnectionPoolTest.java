@@ -0,0 +1,167 @@
+package com.hs.auth.mail;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.metrics.AuthMetrics;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 내장 GreenMail SMTP 서버(테스트마다 새로 기동)로 연결 재사용, 끊긴 연결 교체, 유휴 정리, 메일별 결과 매핑 검증
+class SmtpConnectionPoolTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    private ThreadPoolTaskExecutor sendExecutor;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(2);
+        sendExecutor.setMaxPoolSize(2);
+        sendExecutor.setQueueCapacity(0);
+        sendExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sendExecutor.shutdown();
+    }
+
+    @Test
+    void connectionIsReusedAcrossMessagesAndBatches() throws MessagingException {
+        SmtpConnectionPool pool = pool(Duration.ofHours(1));
+
+        assertThat(pool.sendAll(messages(5))).containsOnlyNulls();
+        assertThat(pool.sendAll(messages(5))).containsOnlyNulls();
+
+        // 핸드셰이크는 처음 한 번만
+        assertThat(opened()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(10);
+        assertThat(gauge("idle")).isEqualTo(1);
+        assertThat(gauge("active")).isZero();
+        pool.shutdown();
+    }
+
+    @Test
+    void droppedConnectionIsReplacedAndMessageRetriedOnce() throws MessagingException {
+        SmtpConnectionPool pool = pool(Duration.ofHours(1));
+        assertThat(pool.sendAll(messages(1))).containsOnlyNulls();
+
+        // 서버 재시작으로 풀에 남은 연결이 서버 쪽에서 끊김 (validate-after가 길어 빌릴 때 확인하지 않음)
+        greenMail.reset();
+
+        assertThat(pool.sendAll(messages(1))).containsOnlyNulls();
+        assertThat(opened()).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        pool.shutdown();
+    }
+
+    @Test
+    void idleConnectionsAreEvicted() throws MessagingException, InterruptedException {
+        SmtpConnectionPool pool = pool(Duration.ofMillis(1));
+        assertThat(pool.sendAll(messages(1))).containsOnlyNulls();
+        assertThat(gauge("idle")).isEqualTo(1);
+
+        Thread.sleep(10);
+        pool.evictIdle();
+
+        assertThat(gauge("idle")).isZero();
+        assertThat(pool.sendAll(messages(1))).containsOnlyNulls();
+        assertThat(opened()).isEqualTo(2);
+        pool.shutdown();
+    }
+
+    @Test
+    void failuresAreMappedToTheirOwnMessages() throws MessagingException {
+        // 메일 하나당 연결 하나 기준으로 나눠 두 연결에서 병렬 발송
+        SmtpConnectionPool pool = new SmtpConnectionPool(mailSender, sendExecutor, new AuthMetrics(meterRegistry),
+                2, 1, 100, Duration.ofHours(1), Duration.ofHours(1), Duration.ofSeconds(5));
+        List<MimeMessage> messages = messages(4);
+        // 수신자가 없는 메일은 서버가 아니라 클라이언트에서 거절되고 연결은 그대로 사용
+        messages.set(2, message(null));
+
+        List<MailException> results = pool.sendAll(messages);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(2)).isInstanceOf(MailSendException.class);
+        assertThat(results.get(3)).isNull();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        pool.shutdown();
+    }
+
+    @Test
+    void connectFailureFailsEveryMessageInGroup() throws MessagingException, IOException {
+        // 열었다 닫은 포트로 연결하면 연결 거부
+        try (ServerSocket socket = new ServerSocket(0)) {
+            mailSender.setPort(socket.getLocalPort());
+        }
+        SmtpConnectionPool pool = pool(Duration.ofHours(1));
+
+        List<MailException> results = pool.sendAll(messages(3));
+
+        assertThat(results).hasSize(3).allSatisfy(error -> assertThat(error).isInstanceOf(MailSendException.class));
+        assertThat(opened()).isZero();
+    }
+
+    private SmtpConnectionPool pool(Duration maxIdle) {
+        return new SmtpConnectionPool(mailSender, sendExecutor, new AuthMetrics(meterRegistry),
+                2, 10, 100, Duration.ofHours(1), maxIdle, Duration.ofSeconds(5));
+    }
+
+    private List<MimeMessage> messages(int count) throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(message("user" + i + "@example.com"));
+        }
+        return messages;
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message);
+        helper.setFrom("noreply@example.com");
+        if (to != null) {
+            helper.setTo(to);
+        }
+        helper.setSubject("test");
+        helper.setText("body");
+        return message;
+    }
+
+    private double opened() {
+        Counter counter = meterRegistry.find(AppConstants.Metrics.SMTP_CONNECTIONS_OPENED).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double gauge(String state) {
+        return meterRegistry.get(AppConstants.Metrics.SMTP_CONNECTIONS).tag("state", state).gauge().value();
+    }
+}
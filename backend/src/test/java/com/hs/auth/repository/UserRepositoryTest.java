@@ -0,0 +1,70 @@
+package com.hs.auth.repository;
+
+import com.hs.auth.dto.DuplicateCheckResult;
+import com.hs.auth.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = userRepository.saveAndFlush(user("taken@example.com", "taken-nick", "010-1111-1111"));
+        userRepository.saveAndFlush(user("other@example.com", "other-nick", "010-2222-2222"));
+    }
+
+    @Test
+    void findDuplicatesReportsEachTakenField() {
+        DuplicateCheckResult result = userRepository.findDuplicates(
+                "taken@example.com", "other-nick", "010-9999-9999");
+
+        assertThat(result.isEmailTaken()).isTrue();
+        assertThat(result.isNicknameTaken()).isTrue();
+        assertThat(result.isPhoneNumberTaken()).isFalse();
+    }
+
+    @Test
+    void findDuplicatesWithNoMatchesIsAllFalse() {
+        // 일치하는 행이 없으면 SUM이 NULL이므로 false로 처리되어야 함
+        DuplicateCheckResult result = userRepository.findDuplicates(
+                "new@example.com", "new-nick", "010-9999-9999");
+
+        assertThat(result.isEmailTaken()).isFalse();
+        assertThat(result.isNicknameTaken()).isFalse();
+        assertThat(result.isPhoneNumberTaken()).isFalse();
+    }
+
+    @Test
+    void findDuplicatesExcludingIgnoresOwnRow() {
+        DuplicateCheckResult own = userRepository.findDuplicatesExcluding(
+                existing.getUserId(), "taken-nick", "010-1111-1111");
+        DuplicateCheckResult others = userRepository.findDuplicatesExcluding(
+                existing.getUserId(), "other-nick", "010-2222-2222");
+
+        assertThat(own.isNicknameTaken()).isFalse();
+        assertThat(own.isPhoneNumberTaken()).isFalse();
+        assertThat(own.isEmailTaken()).isFalse();
+        assertThat(others.isNicknameTaken()).isTrue();
+        assertThat(others.isPhoneNumberTaken()).isTrue();
+    }
+
+    private static User user(String email, String nickname, String phoneNumber) {
+        return User.builder()
+                .email(email)
+                .password("{bcrypt}hash")
+                .nickname(nickname)
+                .name("name")
+                .phoneNumber(phoneNumber)
+                .build();
+    }
+}
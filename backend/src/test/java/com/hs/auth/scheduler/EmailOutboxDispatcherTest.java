@@ -0,0 +1,224 @@
+package com.hs.auth.scheduler;
+
+import com.hs.auth.dto.request.ResetPasswordRequest;
+import com.hs.auth.entity.EmailOutbox;
+import com.hs.auth.entity.User;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.EmailOutboxRepository;
+import com.hs.auth.repository.UserRepository;
+import com.hs.auth.service.EmailOutboxService;
+import com.hs.auth.service.EmailService;
+import com.hs.auth.service.UserService;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+// 테스트 설정에서 스케줄 발송은 사실상 멈춰 있으므로 dispatch()를 직접 호출 (다른 테스트가 남긴 행도 처리될 수 있어 자기 행만 검증)
+@SpringBootTest
+class EmailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    @Test
+    void enqueueRollsBackTogetherWithResetToken() {
+        User user = saveUser();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.requestPasswordReset(new ResetPasswordRequest(user.getEmail()));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxCount(user.getEmail())).isZero();
+        assertThat(resetTokenCount(user)).isZero();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userService.requestPasswordReset(new ResetPasswordRequest(user.getEmail())));
+
+        assertThat(outboxCount(user.getEmail())).isEqualTo(1);
+        assertThat(resetTokenCount(user)).isEqualTo(1);
+    }
+
+    @Test
+    void enqueueRequiresSurroundingTransaction() {
+        // 트랜잭션 밖에서 등록하면 토큰 없이 메일만 남을 수 있으므로 거부
+        assertThatThrownBy(() -> emailOutboxService.enqueue(EmailOutbox.Type.PASSWORD_RESET,
+                recipient(), Locale.KOREA, Map.of("token", "t")))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void sendFailureIsRescheduledWithBackoff() {
+        String recipient = recipient();
+        Long id = enqueue(recipient);
+        stubPrepare();
+        stubSendAll(recipient, new MailSendException("connection reset"));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher().dispatch();
+
+        EmailOutbox email = emailOutboxRepository.findById(id).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getLastError()).contains("connection reset");
+        // 첫 재시도는 base (1분) + 최대 20% 지터
+        assertThat(email.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plusMinutes(1))
+                .isBefore(LocalDateTime.now().plusSeconds(73));
+    }
+
+    @Test
+    void emailIsDeadAfterMaxAttempts() {
+        String recipient = recipient();
+        Long id = enqueue(recipient);
+        stubPrepare();
+        stubSendAll(recipient, new MailSendException("connection reset"));
+
+        // 백오프를 기다리지 않도록 매번 다음 시도 시각을 당겨서 최대 횟수까지 반복
+        EmailOutboxDispatcher dispatcher = dispatcher();
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            makeDue(id);
+            dispatcher.dispatch();
+        }
+
+        EmailOutbox email = emailOutboxRepository.findById(id).orElseThrow();
+        assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.DEAD);
+        assertThat(email.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        makeDue(id);
+        dispatcher.dispatch();
+
+        assertThat(emailOutboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void unexpectedErrorOnOneRowDoesNotAbortBatch() {
+        String failing = recipient();
+        String healthy = recipient();
+        Long failingId = enqueue(failing);
+        Long healthyId = enqueue(healthy);
+        stubPrepare();
+        when(emailService.prepare(any(), eq(failing), any(), any()))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+        stubSendAll(failing, null);
+
+        dispatcher().dispatch();
+
+        EmailOutbox failed = emailOutboxRepository.findById(failingId).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+        assertThat(failed.getLastError()).contains("lock wait timeout");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(emailOutboxRepository.findById(healthyId).orElseThrow().getStatus())
+                .isEqualTo(EmailOutbox.Status.SENT);
+    }
+
+    private EmailOutboxDispatcher dispatcher() {
+        return new EmailOutboxDispatcher(emailOutboxRepository, emailOutboxService, emailService, authMetrics,
+                50, MAX_ATTEMPTS, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(5));
+    }
+
+    // 받는 사람을 메시지 제목에 담아 sendAll에서 구분
+    private void stubPrepare() {
+        when(emailService.prepare(any(), any(), any(), any())).thenAnswer(invocation -> {
+            MimeMessage message = new MimeMessage((Session) null);
+            message.setSubject(invocation.getArgument(1));
+            return message;
+        });
+    }
+
+    // failing 받는 사람에게 보낸 메시지만 error로 실패 처리
+    private void stubSendAll(String failing, MailException error) {
+        when(emailService.sendAll(anyList())).thenAnswer(invocation -> {
+            List<MimeMessage> messages = invocation.getArgument(0);
+            List<MailException> results = new ArrayList<>(messages.size());
+            for (MimeMessage message : messages) {
+                results.add(failing.equals(message.getSubject()) ? error : null);
+            }
+            return results;
+        });
+    }
+
+    private Long enqueue(String recipient) {
+        transactionTemplate.executeWithoutResult(status -> emailOutboxService.enqueue(
+                EmailOutbox.Type.PASSWORD_RESET, recipient, Locale.KOREA, Map.of("token", "t")));
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM email_outbox WHERE recipient = ?", Long.class, recipient);
+    }
+
+    private void makeDue(Long id) {
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = ? WHERE id = ?",
+                LocalDateTime.now().minusSeconds(1), id);
+    }
+
+    private int outboxCount(String recipient) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM email_outbox WHERE recipient = ?", Integer.class, recipient);
+    }
+
+    private int resetTokenCount(User user) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM password_reset_tokens WHERE user_id = ?", Integer.class, user.getUserId());
+    }
+
+    private User saveUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email(recipient())
+                .password("{bcrypt}hash")
+                .nickname("outbox-" + suffix)
+                .name("name")
+                .phoneNumber("010-" + suffix.substring(0, 4) + "-" + suffix.substring(4))
+                .build());
+    }
+
+    private static String recipient() {
+        return "outbox-" + UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,81 @@
+package com.hs.auth.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리스 갱신은 각자 커밋되어야 하므로 테스트 트랜잭션 없이 실행 (테스트마다 다른 리스 이름 사용)
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchedulerLeaseManagerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void onlyOneInstanceHoldsTheLease() {
+        SchedulerLeaseManager first = new SchedulerLeaseManager(jdbcTemplate, "instance-1");
+        SchedulerLeaseManager second = new SchedulerLeaseManager(jdbcTemplate, "instance-2");
+        String name = leaseName();
+
+        Optional<SchedulerLeaseManager.Lease> lease = first.tryAcquire(name, Duration.ofMinutes(10));
+
+        assertThat(lease).isPresent();
+        assertThat(second.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+        // 보유자도 만료 전에는 다시 잡지 못함 (같은 주기에 중복 실행 방지)
+        assertThat(first.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void releasedLeaseCanBeTakenByAnotherInstance() {
+        SchedulerLeaseManager first = new SchedulerLeaseManager(jdbcTemplate, "instance-1");
+        SchedulerLeaseManager second = new SchedulerLeaseManager(jdbcTemplate, "instance-2");
+        String name = leaseName();
+
+        first.release(first.tryAcquire(name, Duration.ofMinutes(10)).orElseThrow(), Duration.ZERO);
+
+        assertThat(second.tryAcquire(name, Duration.ofMinutes(10))).isPresent();
+    }
+
+    @Test
+    void releaseKeepsLeaseUntilLockAtLeastFor() {
+        SchedulerLeaseManager first = new SchedulerLeaseManager(jdbcTemplate, "instance-1");
+        SchedulerLeaseManager second = new SchedulerLeaseManager(jdbcTemplate, "instance-2");
+        String name = leaseName();
+
+        first.release(first.tryAcquire(name, Duration.ofMinutes(10)).orElseThrow(), Duration.ofMinutes(5));
+
+        assertThat(second.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndStaleReleaseIsIgnored() throws InterruptedException {
+        SchedulerLeaseManager first = new SchedulerLeaseManager(jdbcTemplate, "instance-1");
+        SchedulerLeaseManager second = new SchedulerLeaseManager(jdbcTemplate, "instance-2");
+        String name = leaseName();
+
+        SchedulerLeaseManager.Lease stale = first.tryAcquire(name, Duration.ofMillis(1)).orElseThrow();
+        Thread.sleep(20);
+        assertThat(second.tryAcquire(name, Duration.ofMinutes(10))).isPresent();
+
+        // 만료 후 늦게 도착한 해제는 새 보유자의 리스를 건드리지 않음
+        first.release(stale, Duration.ZERO);
+        assertThat(first.tryAcquire(name, Duration.ofMinutes(10))).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM scheduler_leases WHERE lease_name = ?", String.class, name))
+                .isEqualTo("instance-2");
+    }
+
+    private static String leaseName() {
+        return "test-" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,117 @@
+package com.hs.auth.scheduler;
+
+import com.hs.auth.entity.RefreshToken;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.EmailOutboxRepository;
+import com.hs.auth.repository.PasswordResetTokenRepository;
+import com.hs.auth.repository.RefreshTokenRepository;
+import com.hs.auth.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TokenCleanupSchedulerTest {
+
+    private static final int SHARDS = 2;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuthMetrics authMetrics;
+
+    // 애플리케이션 스케줄러가 남긴 리스가 있으면 테스트 실행이 샤드를 건너뛰므로 비움
+    @BeforeEach
+    void clearLeases() {
+        jdbcTemplate.update("DELETE FROM scheduler_leases WHERE lease_name LIKE 'token-cleanup-%'");
+    }
+
+    @Test
+    void shardHeldByAnotherInstanceIsSkippedAndCleanedLater() {
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            expired.add(save(LocalDateTime.now().minusHours(1)).getId());
+        }
+        Long active = save(LocalDateTime.now().plusHours(1)).getId();
+
+        SchedulerLeaseManager otherInstance = new SchedulerLeaseManager(jdbcTemplate, "other-instance");
+        SchedulerLeaseManager.Lease held = otherInstance
+                .tryAcquire("token-cleanup-1", Duration.ofMinutes(10))
+                .orElseThrow();
+        try {
+            scheduler().cleanupExpiredTokens();
+
+            // 샤드 0 (짝수 id)만 정리되고, 다른 인스턴스가 잡고 있는 샤드 1 (홀수 id)은 남음
+            assertThat(remaining(expired)).isNotEmpty().allMatch(id -> id % SHARDS == 1);
+        } finally {
+            otherInstance.release(held, Duration.ZERO);
+        }
+
+        scheduler().cleanupExpiredTokens();
+
+        assertThat(remaining(expired)).isEmpty();
+        assertThat(refreshTokenRepository.findById(active)).isPresent();
+    }
+
+    @Test
+    void batchesUntilAllExpiredRowsAreDeleted() {
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expired.add(save(LocalDateTime.now().minusHours(1)).getId());
+        }
+
+        // 배치 크기보다 많은 행도 한 번의 실행에서 모두 정리
+        scheduler().cleanupExpiredTokens();
+
+        assertThat(remaining(expired)).isEmpty();
+    }
+
+    // 배치 크기 2, 샤드 2개, 해제 즉시 다른 실행이 리스를 잡을 수 있도록 lockAtLeastFor 0
+    private TokenCleanupScheduler scheduler() {
+        return new TokenCleanupScheduler(passwordResetTokenRepository, refreshTokenRepository,
+                revokedTokenRepository, emailOutboxRepository, transactionTemplate,
+                new SchedulerLeaseManager(jdbcTemplate, "test-instance"), authMetrics,
+                2, Duration.ofSeconds(30), Duration.ZERO, Duration.ofDays(1), Duration.ofDays(7),
+                SHARDS, Duration.ZERO, Duration.ofMinutes(10));
+    }
+
+    private RefreshToken save(LocalDateTime expiresAt) {
+        return refreshTokenRepository.save(RefreshToken.builder()
+                .jti(UUID.randomUUID().toString())
+                .familyId(UUID.randomUUID().toString())
+                .userId(3001L)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    private List<Long> remaining(List<Long> ids) {
+        return refreshTokenRepository.findAllById(ids).stream().map(RefreshToken::getId).toList();
+    }
+}
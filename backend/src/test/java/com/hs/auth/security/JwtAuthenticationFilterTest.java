@@ -0,0 +1,82 @@
+package com.hs.auth.security;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-testing-environment-only";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtKeyProvider keyProvider = new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", "", "", 3, "");
+        jwtUtil = new JwtUtil(keyProvider, 60_000L, 600_000L, new AuthMetrics(meterRegistry));
+
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserByClaims(any())).thenAnswer(invocation -> User.builder()
+                .username(invocation.<JwtClaims>getArgument(0).getEmail())
+                .password("")
+                .authorities("ROLE_USER")
+                .build());
+
+        filter = new JwtAuthenticationFilter(new VerifiedTokenCache(jwtUtil, meterRegistry, 100),
+                userDetailsService, mock(TokenRevocationList.class), mock(TokenVersionCache.class));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void accessTokenAuthenticates() throws Exception {
+        doFilter(jwtUtil.generateAccessToken(1L, "user@example.com", 0L));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    void refreshTokenIsRejectedAsBearer() throws Exception {
+        String refreshToken = jwtUtil.generateRefreshToken(1L, "user@example.com", "jti-1", "family-1");
+
+        doFilter(refreshToken);
+
+        assertThat(jwtUtil.parseToken(refreshToken)).hasValueSatisfying(claims -> {
+            assertThat(claims.getTokenType()).isEqualTo(AppConstants.Http.TOKEN_TYPE_REFRESH);
+            assertThat(claims.isRefreshToken()).isTrue();
+        });
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void accessTokenIsNotRefreshToken() {
+        assertThat(jwtUtil.parseToken(jwtUtil.generateAccessToken(1L, "user@example.com", 0L)))
+                .hasValueSatisfying(claims -> assertThat(claims.isRefreshToken()).isFalse());
+    }
+
+    private void doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/profile");
+        request.addHeader(AppConstants.Http.AUTHORIZATION_HEADER, AppConstants.Http.BEARER_PREFIX + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
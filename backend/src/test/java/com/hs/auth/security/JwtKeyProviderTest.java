@@ -0,0 +1,124 @@
+package com.hs.auth.security;
+
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyProviderTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-testing-environment-only";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void hmacKeyUsesJwaAlgorithmName() {
+        JwtKeyProvider provider = new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", "", "", 3, "");
+
+        // 48바이트 비밀 키는 jjwt가 HS384로 서명
+        assertThat(provider.getSigningKey().getAlgorithm()).isEqualTo("HS384");
+    }
+
+    @Test
+    void ecJwkWithoutAlgInfersAlgorithmFromCurve() throws Exception {
+        assertThat(signingAlgorithmFor("secp256r1", "P-256", 32)).isEqualTo(JwtKeyProvider.ES256);
+        assertThat(signingAlgorithmFor("secp384r1", "P-384", 48)).isEqualTo(JwtKeyProvider.ES384);
+        assertThat(signingAlgorithmFor("secp521r1", "P-521", 66)).isEqualTo(JwtKeyProvider.ES512);
+    }
+
+    @Test
+    void publishedAlgorithmMatchesSignedTokens() throws Exception {
+        Path jwk = writeEcJwk(tempDir, "secp384r1", "P-384", 48, "p384");
+        JwtKeyProvider provider = new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", jwk.toString(), "", 3, "");
+        JwtUtil jwtUtil = jwtUtil(provider);
+
+        String token = jwtUtil.generateAccessToken(1L, "user@example.com", 0L);
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) provider.getJwkSet().get("keys");
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0)).containsEntry("alg", "ES384");
+        assertThat(header).contains("\"alg\":\"ES384\"");
+        assertThat(jwtUtil.parseToken(token)).isPresent();
+    }
+
+    @Test
+    void keyringKeepsVerifyingTokensIssuedWithSecret() throws Exception {
+        JwtUtil before = jwtUtil(new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", "", "", 3, ""));
+        String token = before.generateAccessToken(1L, "user@example.com", 0L);
+
+        Path keyring = Files.createDirectory(tempDir.resolve("keyring"));
+        writeEcJwk(keyring, "secp256r1", "P-256", 32, "k1");
+        Files.writeString(keyring.resolve("active"), "k1");
+        JwtKeyProvider provider = new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", "", keyring.toString(), 3, "");
+
+        assertThat(provider.getSigningKey().getKeyId()).isEqualTo("k1");
+        assertThat(jwtUtil(provider).parseToken(token)).isPresent();
+    }
+
+    @Test
+    void unknownLegacyKeyIdFailsStartup() throws Exception {
+        Path keyring = Files.createDirectory(tempDir.resolve("keyring"));
+        writeEcJwk(keyring, "secp256r1", "P-256", 32, "k1");
+
+        assertThatThrownBy(() -> new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", "", keyring.toString(), 3,
+                "missing"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing");
+    }
+
+    private static JwtUtil jwtUtil(JwtKeyProvider provider) {
+        return new JwtUtil(provider, 60_000L, 600_000L, new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    private String signingAlgorithmFor(String curve, String crv, int length) throws Exception {
+        Path jwk = writeEcJwk(tempDir, curve, crv, length, crv);
+        return new JwtKeyProvider(SECRET, JwtKeyProvider.HS256, "", jwk.toString(), "", 3, "")
+                .getSigningKey().getAlgorithm();
+    }
+
+    // alg 파라미터 없이 EC 개인 키 JWK 파일 생성
+    private static Path writeEcJwk(Path directory, String curve, String crv, int length, String kid)
+            throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec(curve));
+        KeyPair keyPair = generator.generateKeyPair();
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        ECPrivateKey privateKey = (ECPrivateKey) keyPair.getPrivate();
+
+        String json = "{\"kty\":\"EC\",\"crv\":\"" + crv + "\",\"kid\":\"" + kid + "\""
+                + ",\"x\":\"" + encode(publicKey.getW().getAffineX(), length) + "\""
+                + ",\"y\":\"" + encode(publicKey.getW().getAffineY(), length) + "\""
+                + ",\"d\":\"" + encode(privateKey.getS(), length) + "\"}";
+        Path file = directory.resolve(kid + ".json");
+        Files.writeString(file, json);
+        return file;
+    }
+
+    // 곡선 크기에 맞춘 부호 없는 big-endian 바이트의 base64url
+    private static String encode(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] padded = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, padded, length - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(padded);
+    }
+}
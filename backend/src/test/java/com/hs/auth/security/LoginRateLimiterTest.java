@@ -0,0 +1,104 @@
+package com.hs.auth.security;
+
+import com.hs.auth.common.exception.TooManyRequestsException;
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.metrics.AuthMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    private static final String SHARED_IP = "203.0.113.10";
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 윈도우 1시간, IP 한도 20회, 이메일 한도 10회, 연속 실패 3회부터 잠금
+        limiter = new LoginRateLimiter(new AuthMetrics(meterRegistry), meterRegistry, true,
+                Duration.ofHours(1), 20, 10, 3, Duration.ofSeconds(30), Duration.ofMinutes(15), 1_000);
+    }
+
+    @Test
+    void repeatedFailuresLockTheEmail() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkAllowed(SHARED_IP, "victim@example.com");
+            limiter.recordFailure("victim@example.com");
+        }
+
+        // 대소문자/공백이 달라도 같은 이메일로 취급
+        assertThatThrownBy(() -> limiter.checkAllowed("198.51.100.7", " Victim@Example.com "))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfter())
+                        .isPositive()
+                        .isLessThanOrEqualTo(Duration.ofSeconds(30)));
+        assertThat(throttled("email")).isEqualTo(1.0);
+    }
+
+    @Test
+    void failuresFromSharedIpDoNotLockOtherUsers() {
+        // 같은 IP에서 여러 사용자가 실패해도 (잠금 임계값 초과) IP는 잠기지 않음
+        for (int i = 0; i < 10; i++) {
+            limiter.checkAllowed(SHARED_IP, "user" + i + "@example.com");
+            limiter.recordFailure("user" + i + "@example.com");
+        }
+
+        assertThatCode(() -> limiter.checkAllowed(SHARED_IP, "colleague@example.com")).doesNotThrowAnyException();
+        assertThat(throttled("ip")).isZero();
+    }
+
+    @Test
+    void ipIsLimitedBySlidingWindowOnly() {
+        for (int i = 0; i < 20; i++) {
+            limiter.checkAllowed(SHARED_IP, "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.checkAllowed(SHARED_IP, "another@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttled("ip")).isEqualTo(1.0);
+        // 다른 IP는 영향 없음
+        assertThatCode(() -> limiter.checkAllowed("198.51.100.7", "another@example.com"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void successResetsEmailFailures() {
+        for (int i = 0; i < 2; i++) {
+            limiter.checkAllowed(SHARED_IP, "user@example.com");
+            limiter.recordFailure("user@example.com");
+        }
+        limiter.recordSuccess("user@example.com");
+        limiter.recordFailure("user@example.com");
+
+        // 성공 이후 실패는 1회뿐이므로 잠기지 않음
+        assertThatCode(() -> limiter.checkAllowed(SHARED_IP, "user@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        LoginRateLimiter disabled = new LoginRateLimiter(new AuthMetrics(meterRegistry), meterRegistry, false,
+                Duration.ofHours(1), 1, 1, 1, Duration.ofSeconds(30), Duration.ofMinutes(15), 1_000);
+
+        for (int i = 0; i < 5; i++) {
+            disabled.checkAllowed(SHARED_IP, "user@example.com");
+            disabled.recordFailure("user@example.com");
+        }
+        assertThatCode(() -> disabled.checkAllowed(SHARED_IP, "user@example.com")).doesNotThrowAnyException();
+    }
+
+    // 거절된 적이 없으면 카운터가 등록되지 않으므로 0
+    private double throttled(String keyType) {
+        Counter counter = meterRegistry.find(AppConstants.Metrics.LOGIN_THROTTLED).tag("key", keyType).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
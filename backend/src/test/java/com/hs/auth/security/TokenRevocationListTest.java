@@ -0,0 +1,126 @@
+package com.hs.auth.security;
+
+import com.hs.auth.cache.InMemorySharedStateStore;
+import com.hs.auth.cache.SharedStateStore;
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.entity.RevokedToken;
+import com.hs.auth.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationListTest {
+
+    private SharedStateStore sharedStateStore;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        sharedStateStore = new InMemorySharedStateStore(100);
+        revocationList = newRevocationList();
+    }
+
+    @Test
+    void revokedJtiIsRejectedAndOthersPass() {
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revocationList.revoke(RevokedToken.builder()
+                .jti("revoked-jti")
+                .userId(1L)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build());
+
+        assertThat(revocationList.isRevoked(claims(1L, "revoked-jti", issuedAt))).isTrue();
+        assertThat(revocationList.isRevoked(claims(1L, "other-jti", issuedAt))).isFalse();
+    }
+
+    @Test
+    void userRevocationRejectsTokensIssuedBeforeCutoffSecond() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokeAll(2L, cutoff);
+
+        assertThat(revocationList.isRevoked(claims(2L, UUID.randomUUID().toString(), cutoff.minusSeconds(1))))
+                .isTrue();
+        // 다른 사용자의 토큰은 영향 없음
+        assertThat(revocationList.isRevoked(claims(3L, UUID.randomUUID().toString(), cutoff.minusSeconds(1))))
+                .isFalse();
+    }
+
+    @Test
+    void tokenIssuedInSameSecondAsCutoffIsAccepted() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokeAll(4L, cutoff);
+
+        // 전체 로그아웃 직후 같은 초에 다시 로그인한 토큰
+        assertThat(revocationList.isRevoked(claims(4L, UUID.randomUUID().toString(), cutoff))).isFalse();
+        assertThat(revocationList.isRevoked(claims(4L, UUID.randomUUID().toString(), cutoff.plusSeconds(1))))
+                .isFalse();
+    }
+
+    @Test
+    void revocationIsPropagatedToOtherInstances() {
+        TokenRevocationList otherInstance = newRevocationList();
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        revocationList.revoke(RevokedToken.builder()
+                .jti("shared-jti")
+                .userId(5L)
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build());
+        revokeAll(6L, issuedAt);
+
+        assertThat(otherInstance.isRevoked(claims(5L, "shared-jti", issuedAt))).isTrue();
+        assertThat(otherInstance.isRevoked(claims(6L, "any-jti", issuedAt.minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        JtiBloomFilter filter = new JtiBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 설정한 오탐률(1%)보다 충분히 여유 있는 상한
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    private TokenRevocationList newRevocationList() {
+        return new TokenRevocationList(mock(RevokedTokenRepository.class), sharedStateStore,
+                new SimpleMeterRegistry(), 100, 0.01);
+    }
+
+    private void revokeAll(Long userId, Instant issuedBefore) {
+        revocationList.revoke(RevokedToken.builder()
+                .userId(userId)
+                .issuedBefore(LocalDateTime.ofInstant(issuedBefore, ZoneId.systemDefault()))
+                .expiresAt(LocalDateTime.now().plusMinutes(15))
+                .build());
+    }
+
+    private static JwtClaims claims(Long userId, String tokenId, Instant issuedAt) {
+        return JwtClaims.from(Jwts.claims()
+                .subject("user@example.com")
+                .id(tokenId)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusSeconds(900)))
+                .add(AppConstants.Http.USER_ID_CLAIM, userId)
+                .build());
+    }
+}
@@ -0,0 +1,147 @@
+package com.hs.auth.service;
+
+import com.hs.auth.cache.UserCache;
+import com.hs.auth.config.PasswordEncoderConfig;
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.repository.UserRepository;
+import com.hs.auth.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PasswordUpgradeServiceTest {
+
+    private static final String PASSWORD = "password123";
+    private static final int UPGRADE_MAX_QUEUED = 2;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void legacyBcryptHashOnlyGainsPrefix() {
+        PasswordUpgradeService service = service("bcrypt");
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        when(userRepository.updatePasswordHash(1L, legacyHash, "{bcrypt}" + legacyHash)).thenReturn(1);
+
+        service.upgradeIfNeeded(user(legacyHash), PASSWORD);
+
+        // 다시 해싱하지 않고 호출 스레드에서 바로 갱신
+        verify(userRepository).updatePasswordHash(1L, legacyHash, "{bcrypt}" + legacyHash);
+        verify(userCache).evict(1L, "user@example.com");
+    }
+
+    @Test
+    void rehashRunsOnHashPoolWithoutBlockingLogin() throws Exception {
+        PasswordUpgradeService service = service(PasswordEncoderConfig.PBKDF2);
+        String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        when(userRepository.updatePasswordHash(eq(1L), eq(bcryptHash), anyString())).thenReturn(1);
+
+        // 해싱 풀의 유일한 스레드를 막아 두어도 upgradeIfNeeded는 바로 반환
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        service.upgradeIfNeeded(user(bcryptHash), PASSWORD);
+        verify(userRepository, after(100).never()).updatePasswordHash(anyLong(), anyString(), anyString());
+
+        release.countDown();
+        verify(userRepository, timeout(5_000)).updatePasswordHash(eq(1L), eq(bcryptHash), startsWith("{pbkdf2@1000}"));
+        verify(userCache, timeout(5_000)).evict(1L, "user@example.com");
+    }
+
+    @Test
+    void rehashIsSkippedWhenQueueHasNoSpareRoom() throws Exception {
+        PasswordUpgradeService service = service(PasswordEncoderConfig.PBKDF2);
+        String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        // 스레드를 막고 대기열에 UPGRADE_MAX_QUEUED개를 쌓아 두면 남은 자리는 로그인 검증용으로 남김
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i <= UPGRADE_MAX_QUEUED; i++) {
+            executor.submit(() -> {
+                release.await();
+                return null;
+            });
+        }
+        service.upgradeIfNeeded(user(bcryptHash), PASSWORD);
+        release.countDown();
+
+        verify(userRepository, after(200).never()).updatePasswordHash(anyLong(), anyString(), anyString());
+        assertThat(rejected("upgrade")).isEqualTo(1);
+        assertThat(rejected("login")).isZero();
+    }
+
+    @Test
+    void currentHashIsLeftAlone() {
+        PasswordUpgradeService service = service("bcrypt");
+        String currentHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        service.upgradeIfNeeded(user(currentHash), PASSWORD);
+
+        verifyNoInteractions(userRepository, userCache);
+    }
+
+    @Test
+    void concurrentPasswordChangeWinsOverUpgrade() {
+        PasswordUpgradeService service = service("bcrypt");
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        // 그 사이 비밀번호가 바뀌어 이전 해시 기준 갱신이 0건
+        when(userRepository.updatePasswordHash(anyLong(), anyString(), anyString())).thenReturn(0);
+
+        service.upgradeIfNeeded(user(legacyHash), PASSWORD);
+
+        verify(userCache, never()).evict(anyLong(), anyString());
+    }
+
+    private PasswordUpgradeService service(String algorithm) {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+
+        PasswordEncoder passwordEncoder = new PasswordEncoderConfig().passwordEncoder(algorithm, Duration.ZERO,
+                4, 19456, 2, 1, 1_000, List.of());
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, executor,
+                new AuthMetrics(meterRegistry), Duration.ofSeconds(5), UPGRADE_MAX_QUEUED);
+        return new PasswordUpgradeService(userRepository, passwordHasher, userCache);
+    }
+
+    private double rejected(String purpose) {
+        return meterRegistry.get(AppConstants.Metrics.PASSWORD_HASH_REJECTED).tag("purpose", purpose).counter().count();
+    }
+
+    private static UserSnapshot user(String passwordHash) {
+        return new UserSnapshot(1L, "user@example.com", passwordHash, "nickname", "name", null, 0L,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,105 @@
+package com.hs.auth.service;
+
+import com.hs.auth.constants.AppConstants;
+import com.hs.auth.entity.RefreshToken;
+import com.hs.auth.repository.RefreshTokenRepository;
+import com.hs.auth.security.JwtClaims;
+import com.hs.auth.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void rotationReplacesCurrentJtiWithinFamily() {
+        JwtClaims issued = parse(refreshTokenService.issue(1001L, "rotate@example.com"));
+        JwtClaims rotated = parse(refreshTokenService.rotate(issued));
+
+        assertThat(rotated.getFamilyId()).isEqualTo(issued.getFamilyId());
+        assertThat(rotated.getTokenId()).isNotEqualTo(issued.getTokenId());
+        RefreshToken family = family(issued);
+        assertThat(family.getJti()).isEqualTo(rotated.getTokenId());
+        assertThat(family.isRevoked()).isFalse();
+
+        // 새 토큰은 다시 회전 가능
+        assertThat(parse(refreshTokenService.rotate(rotated)).getFamilyId()).isEqualTo(issued.getFamilyId());
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesWholeFamily() {
+        double reusesBefore = reuseCount();
+        JwtClaims issued = parse(refreshTokenService.issue(1002L, "reuse@example.com"));
+        JwtClaims rotated = parse(refreshTokenService.rotate(issued));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 탈취된 이전 토큰이 재사용되면 정상 사용자의 최신 토큰도 함께 폐기
+        assertThat(family(issued).isRevoked()).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reuseCount()).isEqualTo(reusesBefore + 1);
+    }
+
+    @Test
+    void revokedFamilyIsRejectedWithoutCountingReuse() {
+        double reusesBefore = reuseCount();
+        JwtClaims issued = parse(refreshTokenService.issue(1003L, "logout@example.com"));
+
+        refreshTokenService.revoke(issued);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reuseCount()).isEqualTo(reusesBefore);
+    }
+
+    @Test
+    void revokeAllForUserRevokesEveryFamily() {
+        JwtClaims first = parse(refreshTokenService.issue(1004L, "all@example.com"));
+        JwtClaims second = parse(refreshTokenService.issue(1004L, "all@example.com"));
+
+        refreshTokenService.revokeAllForUser(1004L);
+
+        assertThat(family(first).isRevoked()).isTrue();
+        assertThat(family(second).isRevoked()).isTrue();
+    }
+
+    @Test
+    void tokenWithoutFamilyIsRejected() {
+        JwtClaims accessToken = parse(jwtUtil.generateAccessToken(1005L, "access@example.com", 0L));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(accessToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(AppConstants.Messages.REFRESH_TOKEN_INVALID);
+    }
+
+    private JwtClaims parse(String token) {
+        return jwtUtil.parseToken(token).orElseThrow();
+    }
+
+    private RefreshToken family(JwtClaims claims) {
+        return refreshTokenRepository.findByFamilyId(claims.getFamilyId()).orElseThrow();
+    }
+
+    private double reuseCount() {
+        return meterRegistry.counter(AppConstants.Metrics.REFRESH_REUSE).count();
+    }
+}
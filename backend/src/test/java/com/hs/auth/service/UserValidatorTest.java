@@ -0,0 +1,92 @@
+package com.hs.auth.service;
+
+import com.hs.auth.common.exception.AuthenticationException;
+import com.hs.auth.dto.UserSnapshot;
+import com.hs.auth.metrics.AuthMetrics;
+import com.hs.auth.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+// 로그인 검증은 이메일 존재 여부와 관계없이 같은 경로 (DB 조회 1회 + 해시 검증 1회)
+class UserValidatorTest {
+
+    private UserQueryService userQueryService;
+    private PasswordHasher passwordHasher;
+    private UserValidator userValidator;
+
+    @BeforeEach
+    void setUp() {
+        userQueryService = mock(UserQueryService.class);
+        passwordHasher = mock(PasswordHasher.class);
+        userValidator = new UserValidator(userQueryService, passwordHasher, new AuthMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void knownEmailQueriesOnceAndHashesOnce() {
+        UserSnapshot user = snapshot("known@example.com");
+        when(userQueryService.findLoginSnapshotByEmail("known@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", user.getPassword())).thenReturn(true);
+
+        assertThat(userValidator.validateLogin("known@example.com", "password")).isSameAs(user);
+
+        verify(userQueryService).findLoginSnapshotByEmail("known@example.com");
+        verify(passwordHasher).matches("password", user.getPassword());
+        verify(passwordHasher, never()).matchesDummy(anyString());
+        verifyNoMoreInteractions(userQueryService);
+    }
+
+    @Test
+    void unknownEmailQueriesOnceAndHashesDummyOnce() {
+        when(userQueryService.findLoginSnapshotByEmail("unknown@example.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userValidator.validateLogin("unknown@example.com", "password"))
+                .isInstanceOf(AuthenticationException.class);
+
+        // 캐시 경로(findSnapshotByEmail)를 거치지 않으므로 알려진 이메일과 같은 비용
+        verify(userQueryService).findLoginSnapshotByEmail("unknown@example.com");
+        verify(passwordHasher).matchesDummy("password");
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+        verifyNoMoreInteractions(userQueryService);
+    }
+
+    @Test
+    void wrongPasswordAndUnknownEmailFailTheSameWay() {
+        UserSnapshot user = snapshot("known@example.com");
+        when(userQueryService.findLoginSnapshotByEmail("known@example.com")).thenReturn(Optional.of(user));
+        when(userQueryService.findLoginSnapshotByEmail("unknown@example.com")).thenReturn(Optional.empty());
+
+        Throwable wrongPassword = catchLogin("known@example.com");
+        Throwable unknownEmail = catchLogin("unknown@example.com");
+
+        assertThat(wrongPassword).isInstanceOf(AuthenticationException.class);
+        assertThat(unknownEmail).isInstanceOf(AuthenticationException.class)
+                .hasMessage(wrongPassword.getMessage());
+    }
+
+    private Throwable catchLogin(String email) {
+        try {
+            userValidator.validateLogin(email, "wrong-password");
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static UserSnapshot snapshot(String email) {
+        return new UserSnapshot(1L, email, "{bcrypt}hash", "nickname", "name", null, 0L,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}